@@ -0,0 +1,89 @@
+package com.jobnest.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Background executors. Pools are bounded and named so they show up clearly in thread dumps.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Runs the @Scheduled jobs. Declaring any scheduler bean stops Boot from creating its own,
+     * and with a single candidate the jobs would borrow the notification push threads; with
+     * several, the scheduling processor picks the one named taskScheduler.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${app.scheduling.pool-size:8}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    /**
+     * Sends WebSocket pushes after the notification rows are committed, and schedules their retries.
+     */
+    @Bean(name = "notificationPushScheduler")
+    public ThreadPoolTaskScheduler notificationPushScheduler(
+            @Value("${app.notifications.push-threads:4}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("notification-push-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    /**
+     * Runs notification broadcasts. Each holds two connections while it runs, so only a few run at once.
+     */
+    @Bean(name = "notificationBroadcastExecutor")
+    public ThreadPoolTaskExecutor notificationBroadcastExecutor(
+            @Value("${app.notifications.broadcast.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("notification-broadcast-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Drains the per-session WebSocket send queues. A thread is only held while a frame is being
+     * written, so slow clients tie up at most this many threads.
+     */
+    @Bean(name = "websocketSendExecutor")
+    public ThreadPoolTaskExecutor websocketSendExecutor(
+            @Value("${app.websocket.send-threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("ws-send-");
+        return executor;
+    }
+
+    /**
+     * Runs the email poller plus one long-lived thread per SMTP worker (see EmailDeliveryWorker).
+     */
+    @Bean(name = "emailWorkerExecutor")
+    public ThreadPoolTaskExecutor emailWorkerExecutor(
+            @Value("${app.email.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers + 1);
+        executor.setMaxPoolSize(workers + 1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("email-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
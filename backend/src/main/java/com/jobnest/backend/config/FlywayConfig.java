@@ -0,0 +1,33 @@
+package com.jobnest.backend.config;
+
+import org.flywaydb.database.postgresql.PostgreSQLConfigurationExtension;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The schema is owned by the migrations in db/migration. Databases created by ddl-auto=update
+ * before those existed have no history table; they are baselined at V1 (the schema they already
+ * have) and only get the later migrations.
+ *
+ * Flyway's PostgreSQL lock is taken inside an open transaction by default, and CREATE INDEX
+ * CONCURRENTLY waits for every older transaction, so V2 would wait on the lock forever. A session
+ * level advisory lock is used instead.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchemaCustomizer(
+            @Value("${app.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate) {
+        return configuration -> {
+            configuration
+                    .baselineOnMigrate(baselineOnMigrate)
+                    .baselineVersion("1");
+            configuration.getPluginRegister()
+                    .getPlugin(PostgreSQLConfigurationExtension.class)
+                    .setTransactionalLock(false);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobnest.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Second-level cache for reference entities (categories, companies, service packages, accounts)
+ * backed by Ehcache through JCache. Regions and their sizes/TTLs live in ehcache.xml; a region
+ * referenced by an entity but missing there fails startup instead of silently using defaults.
+ *
+ * With statistics on, actuator publishes hit/miss/put counts per region as hibernate.* metrics.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${app.cache.second-level.enabled:true}") boolean enabled,
+            @Value("${app.cache.second-level.config:classpath:ehcache.xml}") String configUri,
+            @Value("${app.cache.second-level.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+                properties.put("hibernate.javax.cache.uri", configUri);
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            }
+        };
+    }
+}
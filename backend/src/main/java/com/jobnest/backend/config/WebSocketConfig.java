@@ -1,21 +1,128 @@
 package com.jobnest.backend.config;
 
+import com.jobnest.backend.service.notification.push.OutboundBufferRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * app.websocket.broker selects how pushes reach users:
+ * simple   - in-memory broker, single node only (default)
+ * relay    - external STOMP broker (RabbitMQ, ActiveMQ) shared by all nodes
+ * postgres - in-memory broker per node, fanned out over Postgres LISTEN/NOTIFY (PostgresPushGateway)
+ *
+ * Sessions get a bounded send queue (OutboundSessionBuffer). The channel executors are sized here;
+ * actuator publishes their executor metrics under the bean names clientInboundChannelExecutor,
+ * clientOutboundChannelExecutor and brokerChannelExecutor.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${app.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${app.websocket.inbound-threads:8}")
+    private int inboundThreads;
+
+    @Value("${app.websocket.outbound-threads:4}")
+    private int outboundThreads;
+
+    @Value("${app.websocket.channel-queue-capacity:10000}")
+    private int channelQueueCapacity;
+
+    @Autowired
+    private OutboundBufferRegistry outboundBufferRegistry;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // /topic carries the relay's internal user broadcasts; clients may not subscribe to it
+            var relay = registry.enableStompBrokerRelay("/queue", "/topic")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                // Share user sessions between nodes so /user destinations resolve on any node
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            registry.enableSimpleBroker("/queue");
+        }
+        // Keeps per-session order with several outbound threads
+        registry.setPreservePublishOrder(true);
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(outboundBufferRegistry::decorate);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(inboundThreads)
+            .maxPoolSize(inboundThreads)
+            .queueCapacity(channelQueueCapacity);
+        // /ws is open to anonymous clients, so nothing may subscribe to shared destinations
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                        && accessor.getDestination() != null && accessor.getDestination().startsWith("/topic/")) {
+                    throw new MessagingException("Subscribing to " + accessor.getDestination() + " is not allowed");
+                }
+                return message;
+            }
+        });
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Sends only enqueue into the session buffers, so a few threads are enough
+        registration.taskExecutor()
+            .corePoolSize(outboundThreads)
+            .maxPoolSize(outboundThreads)
+            .queueCapacity(channelQueueCapacity);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
@@ -7,6 +7,7 @@ import com.jobnest.backend.service.GoogleService;
 import com.jobnest.backend.service.auth.AccountService;
 import com.jobnest.backend.service.auth.JwtService;
 import com.jobnest.backend.service.auth.RefreshTokenService;
+import com.jobnest.backend.security.jwt.VerifiedClaims;
 import com.jobnest.backend.security.user.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -56,25 +57,10 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(@RequestBody Map<String, String> body) {
         String refreshToken = body.get("refreshToken");
-        
-        if (refreshToken == null || !refreshTokenService.validateRefreshToken(refreshToken)) {
-            throw new RuntimeException("Invalid or expired refresh token");
-        }
-        
-        // Extract user info from refresh token
-        String email = jwtService.extractEmail(refreshToken);
-        Long userId = jwtService.extractUserId(refreshToken);
-        
-        // Get account to retrieve role
-        Account account = accountService.findByEmail(email);
-        
-        // Generate new access token
-        String newAccessToken = jwtService.generateAccessToken(
-            userId,
-            email,
-            account.getRole().name()
-        );
-        
+
+        // Rejects revoked tokens and accounts that are no longer active
+        String newAccessToken = accountService.refreshAccessToken(refreshToken);
+
         // Return response with existing refresh token
         return ResponseEntity.ok(new AuthResponse(newAccessToken, refreshToken, null));
     }
@@ -114,11 +100,16 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<?> getMe(@AuthenticationPrincipal CustomUserDetails user) {
-        if (user == null) {
+    public ResponseEntity<?> getMe(
+        @RequestAttribute(name = VerifiedClaims.REQUEST_ATTRIBUTE, required = false) VerifiedClaims claims
+    ) {
+        if (claims == null) {
             return ResponseEntity.status(401).body("Not logged in");
         }
-        return ResponseEntity.ok(user.getAccount());
+        // Claims the filter already verified; tokens issued before userId was added only carry the email
+        return ResponseEntity.ok(claims.getUserId() != null
+            ? accountService.findById(claims.getUserId())
+            : accountService.findByEmail(claims.getEmail()));
     }
 
     @PostMapping("/google/verify")
@@ -136,11 +127,7 @@ public class AuthController {
         Account acc = accountService.registerWithGoogle(email, name, picture, googleId, role);
         
         // Generate JWT tokens for the Google user
-        String accessToken = jwtService.generateAccessToken(
-            acc.getId(),
-            acc.getEmail(),
-            acc.getRole().name()
-        );
+        String accessToken = accountService.issueAccessToken(acc);
         String refreshToken = jwtService.generateRefreshToken(
             acc.getId(),
             acc.getEmail()
@@ -23,8 +23,10 @@ public class CompanyController {
     private final CompanyService companyService;
 
     @GetMapping("/top")
-    public ResponseEntity<List<CompanyResponse>> getTopCompanies() {
-        return ResponseEntity.ok(companyService.getTopCompanies());
+    public ResponseEntity<List<CompanyResponse>> getTopCompanies(
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(defaultValue = "ACTIVE_JOBS") String rankBy) {
+        return ResponseEntity.ok(companyService.getTopCompanies(k, rankBy));
     }
 
     @PostMapping
@@ -1,6 +1,9 @@
 package com.jobnest.backend.controllers.job;
 
+import com.jobnest.backend.dto.request.JobFacetSearchRequest;
+import com.jobnest.backend.dto.response.CursorPageResponse;
 import com.jobnest.backend.dto.response.JobCategoryResponse;
+import com.jobnest.backend.dto.response.JobFacetSearchResponse;
 import com.jobnest.backend.dto.response.JobResponse;
 import com.jobnest.backend.security.user.CustomUserDetails;
 import com.jobnest.backend.service.job.JobService;
@@ -51,6 +54,22 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
 
+    /**
+     * GET /api/jobs/feed - Cursor (keyset) paginated active jobs
+     * Pass the returned nextCursor to fetch the following page.
+     * sortBy is limited to postedAt, title and id.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<JobResponse>> getJobFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(
+                jobService.getActiveJobFeed(cursor, size, sortBy, sortDir, includeTotal));
+    }
+
     /**
      * GET /api/jobs/search - Search active jobs
      */
@@ -64,6 +83,33 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
 
+    /**
+     * GET /api/jobs/facets - Filter active jobs by facet and return counts for every facet
+     * Multiple values of one facet are OR-ed, different facets are AND-ed.
+     * Answers 503 while the search and facet indexes are still building after startup.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetSearchResponse> facetedSearch(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> categoryId,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(required = false) List<String> salaryBand,
+            @RequestParam(required = false) List<String> experienceLevel,
+            @RequestParam(required = false) Boolean urgent,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        JobFacetSearchRequest request = new JobFacetSearchRequest();
+        request.setKeyword(keyword);
+        request.setCategoryIds(categoryId);
+        request.setTypes(type);
+        request.setLocations(location);
+        request.setSalaryBands(salaryBand);
+        request.setExperienceLevels(experienceLevel);
+        request.setUrgent(urgent);
+        return ResponseEntity.ok(jobService.facetedSearch(request, PageRequest.of(page, Math.min(size, 100))));
+    }
+
     /**
      * GET /api/jobs/{id} - View job details
      * Tracks views (IP-based for guests, user-based for authenticated)
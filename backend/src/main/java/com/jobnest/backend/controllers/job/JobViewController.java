@@ -1,6 +1,7 @@
 package com.jobnest.backend.controllers.job;
 
 import com.jobnest.backend.dto.response.JobResponse;
+import com.jobnest.backend.dto.response.JobViewStatsResponse;
 import com.jobnest.backend.security.user.CustomUserDetails;
 import com.jobnest.backend.service.job.JobViewService;
 
@@ -52,6 +53,33 @@ public class JobViewController {
         return ResponseEntity.ok(viewedJobs);
     }
 
+    /**
+     * GET /api/job-views/{jobId}/unique-viewers?days=7 - Approximate unique viewers (~3% error)
+     * over the last N days, plus the all-time figure
+     */
+    @GetMapping("/{jobId}/unique-viewers")
+    public ResponseEntity<Map<String, Object>> getUniqueViewers(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(Map.of(
+                "jobId", jobId,
+                "days", days,
+                "uniqueViewers", jobViewService.getUniqueViewers(jobId, days),
+                "allTimeUniqueViewers", jobViewService.getViewCount(jobId)));
+    }
+
+    /**
+     * GET /api/job-views/{jobId}/stats?granularity=DAY&days=30 - Views per hour or day
+     * from the rollup tables, plus the all-time total. The current bucket appears once complete.
+     */
+    @GetMapping("/{jobId}/stats")
+    public ResponseEntity<JobViewStatsResponse> getViewStats(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(jobViewService.getViewStats(jobId, granularity, days));
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -0,0 +1,66 @@
+package com.jobnest.backend.controllers.notification;
+
+import com.jobnest.backend.dto.request.NotificationBroadcastRequest;
+import com.jobnest.backend.dto.response.NotificationBroadcastResponse;
+import com.jobnest.backend.dto.response.WebSocketSessionResponse;
+import com.jobnest.backend.service.notification.broadcast.NotificationBroadcastService;
+import com.jobnest.backend.service.notification.push.OutboundBufferRegistry;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Admin Notification Controller
+ * Bulk notifications to a role, a job's applicants or its saved-job holders,
+ * and the send queues of the WebSocket sessions on this node
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "BearerAuth")
+@Tag(name = "Admin Notification", description = "Admin notification broadcast APIs")
+public class AdminNotificationController {
+
+    private final NotificationBroadcastService notificationBroadcastService;
+    private final OutboundBufferRegistry outboundBufferRegistry;
+
+    /**
+     * POST /api/admin/notifications/broadcast - Start a broadcast, runs in the background
+     */
+    @PostMapping("/broadcast")
+    public ResponseEntity<NotificationBroadcastResponse> broadcast(@RequestBody NotificationBroadcastRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(notificationBroadcastService.start(request));
+    }
+
+    /**
+     * GET /api/admin/notifications/broadcast - Recent broadcasts with their progress
+     */
+    @GetMapping("/broadcast")
+    public ResponseEntity<List<NotificationBroadcastResponse>> getRecent() {
+        return ResponseEntity.ok(notificationBroadcastService.getRecent());
+    }
+
+    /**
+     * GET /api/admin/notifications/broadcast/{id} - Progress and throughput of one broadcast
+     */
+    @GetMapping("/broadcast/{id}")
+    public ResponseEntity<NotificationBroadcastResponse> getProgress(@PathVariable String id) {
+        return ResponseEntity.ok(notificationBroadcastService.getProgress(id));
+    }
+
+    /**
+     * GET /api/admin/notifications/websocket-sessions - Queue depth, latency and drops per session (this node)
+     */
+    @GetMapping("/websocket-sessions")
+    public ResponseEntity<List<WebSocketSessionResponse>> getWebSocketSessions() {
+        return ResponseEntity.ok(outboundBufferRegistry.getSessions());
+    }
+}
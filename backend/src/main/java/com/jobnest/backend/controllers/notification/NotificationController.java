@@ -75,6 +75,15 @@ public class NotificationController {
         notificationService.deleteNotification(id, user.getId());
     }
 
+    // DELETE /notifications
+    @DeleteMapping
+    public void clearAll(
+        Authentication authentication
+    ) {
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+        notificationService.clearAll(user.getId());
+    }
+
     // GET /notifications/unread-count
     @GetMapping("/unread-count")
     public long countUnread(
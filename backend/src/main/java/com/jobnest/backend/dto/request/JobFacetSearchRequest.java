@@ -0,0 +1,16 @@
+package com.jobnest.backend.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class JobFacetSearchRequest {
+    private String keyword;
+    private List<String> categoryIds;
+    private List<String> types;
+    private List<String> locations;
+    private List<String> salaryBands;
+    private List<String> experienceLevels;
+    private Boolean urgent;
+}
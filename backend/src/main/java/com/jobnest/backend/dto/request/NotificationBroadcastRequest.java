@@ -0,0 +1,18 @@
+package com.jobnest.backend.dto.request;
+
+import lombok.Data;
+
+@Data
+public class NotificationBroadcastRequest {
+    // ROLE, JOB_APPLICANTS or SAVED_JOB_HOLDERS
+    private String recipientType;
+    // Required for ROLE: CANDIDATE, EMPLOYER or ADMIN
+    private String role;
+    // Required for JOB_APPLICANTS and SAVED_JOB_HOLDERS
+    private Long jobId;
+    private String title;
+    private String message;
+    private String type = "SYSTEM";
+    private Long referenceId;
+    private Boolean push = true;
+}
@@ -14,6 +14,7 @@ public class CompanyResponse {
     private String address;
     private Boolean verified;
     private Long openPositions;
+    private Long recentApplications;
 
     // Constructor from Company entity
     public CompanyResponse(Company company) {
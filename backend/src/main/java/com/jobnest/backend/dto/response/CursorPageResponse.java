@@ -0,0 +1,18 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;   // null when there are no more pages
+    private boolean hasNext;
+    private Long estimatedTotal; // only filled when requested
+}
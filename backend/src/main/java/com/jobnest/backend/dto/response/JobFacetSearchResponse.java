@@ -0,0 +1,20 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetSearchResponse {
+    private List<JobResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    // facet key (category, type, location, ...) -> value counts
+    private Map<String, List<FacetCount>> facets;
+}
@@ -0,0 +1,27 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobViewStatsResponse {
+    private Long jobId;
+    private String granularity;
+    private long totalViews;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime bucketStart;
+        private long views;
+        private long uniqueViewers;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NotificationBroadcastResponse {
+    private String id;
+    private String status;
+    private String recipientType;
+    private long written;
+    private long pushed;
+    private double perSecond;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
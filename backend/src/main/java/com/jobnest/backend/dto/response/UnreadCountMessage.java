@@ -0,0 +1,24 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pushed on /user/queue/notifications whenever the recipient's unread count changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountMessage {
+    public static final String TYPE = "UNREAD_COUNT";
+
+    private String type = TYPE;
+    private Long recipientId;
+    private long unreadCount;
+
+    public UnreadCountMessage(Long recipientId, long unreadCount) {
+        this.recipientId = recipientId;
+        this.unreadCount = unreadCount;
+    }
+}
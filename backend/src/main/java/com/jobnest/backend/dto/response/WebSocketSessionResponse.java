@@ -0,0 +1,16 @@
+package com.jobnest.backend.dto.response;
+
+import lombok.Data;
+
+@Data
+public class WebSocketSessionResponse {
+    private String sessionId;
+    private String user;
+    private long connectedAt;
+    private int queueDepth;
+    private long sent;
+    private long dropped;
+    private long coalesced;
+    private double avgLatencyMs;
+    private double maxLatencyMs;
+}
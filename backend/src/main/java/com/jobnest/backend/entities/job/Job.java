@@ -9,7 +9,9 @@ import com.jobnest.backend.entities.auth.Account;
 
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status_expires_at", columnList = "status, expires_at")
+})
 @Data
 public class Job {
     @Id
@@ -0,0 +1,37 @@
+package com.jobnest.backend.entities.job;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * Number of ACTIVE jobs per category or company, kept current by ActiveJobCounters.
+ */
+@Entity
+@Table(name = "job_counters")
+@Data
+public class JobCounter {
+    @EmbeddedId
+    private JobCounterId id;
+
+    @Column(name = "active_count", nullable = false)
+    private Long activeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Data
+    public static class JobCounterId implements java.io.Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(name = "scope", length = 10)
+        private Scope scope;
+
+        @Column(name = "ref_id")
+        private Long refId;
+    }
+
+    public enum Scope {
+        CATEGORY, COMPANY
+    }
+}
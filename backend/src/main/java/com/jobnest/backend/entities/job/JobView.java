@@ -7,11 +7,16 @@ import java.time.LocalDateTime;
 import com.jobnest.backend.entities.auth.Account;
 
 @Entity
-@Table(name = "job_views")
+@Table(name = "job_views", indexes = {
+        @Index(name = "idx_job_views_viewed_at", columnList = "viewed_at"),
+        @Index(name = "idx_job_views_job_viewed_at", columnList = "job_id, viewed_at"),
+        @Index(name = "idx_job_views_viewer_viewed_at", columnList = "viewer_id, viewed_at")
+})
 @Data
 public class JobView {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_views_seq")
+    @SequenceGenerator(name = "job_views_seq", sequenceName = "job_views_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "job_id", nullable = false)
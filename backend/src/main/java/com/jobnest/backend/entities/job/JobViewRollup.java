@@ -0,0 +1,40 @@
+package com.jobnest.backend.entities.job;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * View totals of one job over one hour or one day, aggregated from job_views.
+ */
+@Entity
+@Table(name = "job_view_rollups")
+@Data
+public class JobViewRollup {
+    @EmbeddedId
+    private JobViewRollupId id;
+
+    @Column(name = "views", nullable = false)
+    private Long views;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private Long uniqueViewers;
+
+    @Embeddable
+    @Data
+    public static class JobViewRollupId implements java.io.Serializable {
+        @Column(name = "job_id")
+        private Long jobId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", length = 10)
+        private Granularity granularity;
+
+        @Column(name = "bucket_start")
+        private LocalDateTime bucketStart;
+    }
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobnest.backend.entities.job;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * How far raw job_views have been rolled up for one granularity, kept by JobViewRollupJob.
+ */
+@Entity
+@Table(name = "job_view_rollup_watermarks")
+@Data
+public class JobViewRollupWatermark {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10)
+    private JobViewRollup.Granularity granularity;
+
+    // Exclusive end of the rolled-up range
+    @Column(name = "rolled_up_to", nullable = false)
+    private LocalDateTime rolledUpTo;
+}
@@ -0,0 +1,34 @@
+package com.jobnest.backend.entities.job;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted HyperLogLog registers of the unique viewers of one job on one day.
+ * The row with bucket_date = 1970-01-01 holds the job's all-time sketch.
+ */
+@Entity
+@Table(name = "job_view_sketches")
+@Data
+public class JobViewSketch {
+    @EmbeddedId
+    private JobViewSketchId id;
+
+    @Column(name = "registers", nullable = false)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Embeddable
+    @Data
+    public static class JobViewSketchId implements java.io.Serializable {
+        @Column(name = "job_id")
+        private Long jobId;
+
+        @Column(name = "bucket_date")
+        private LocalDate bucketDate;
+    }
+}
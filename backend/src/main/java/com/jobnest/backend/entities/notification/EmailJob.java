@@ -0,0 +1,62 @@
+package com.jobnest.backend.entities.notification;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * An email written in the caller's transaction and sent by the email workers after it commits.
+ * Rows are deleted once sent. SENDING rows are leased until next_attempt_at, so a crashed worker's
+ * rows are picked up again; rows that keep failing end up DEAD.
+ */
+@Entity
+@Table(name = "email_jobs", indexes = {
+        @Index(name = "idx_email_jobs_due", columnList = "status, next_attempt_at")
+})
+@Data
+public class EmailJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "html_body", columnDefinition = "TEXT", nullable = false)
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailStatus status = EmailStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum EmailStatus {
+        PENDING,
+        SENDING,
+        DEAD
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
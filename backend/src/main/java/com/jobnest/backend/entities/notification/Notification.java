@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,6 +49,7 @@ public class Notification {
         NEW_APPLICATION,
         APPLICATION_SUBMITTED, 
         APPLICATION_STATUS_CHANGED,
+        JOB_EXPIRED,
         SYSTEM
     }
 
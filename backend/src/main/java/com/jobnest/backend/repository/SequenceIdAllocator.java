@@ -0,0 +1,42 @@
+package com.jobnest.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out ids for rows written with plain JDBC into tables whose entities use a pooled-lo
+ * sequence generator. Each nextval reserves a block of {@link #BLOCK_SIZE} ids starting at the
+ * returned value, exactly as Hibernate does, so both writers can share the sequence.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+
+    // Must match allocationSize of the entities' @SequenceGenerator
+    public static final int BLOCK_SIZE = 50;
+
+    private static final String BLOCKS_SQL = "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return {@code count} unused ids, in one round trip
+     */
+    public List<Long> allocate(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (Long low : jdbcTemplate.queryForList(BLOCKS_SQL, Long.class, sequence, blocks)) {
+            for (int i = 0; i < BLOCK_SIZE && ids.size() < count; i++) {
+                ids.add(low + i);
+            }
+        }
+        return ids;
+    }
+}
@@ -1,10 +1,14 @@
 package com.jobnest.backend.repository.auth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jobnest.backend.entities.auth.Account;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +17,10 @@ public interface UserRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByUsername(String username);
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
+
+    // Batch lookup of display names: [id, username]
+    @Query("SELECT a.id, a.username FROM Account a WHERE a.id IN :ids")
+    List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
 }
 
 // If you have a public interface AccountRepository here, remove it from this file
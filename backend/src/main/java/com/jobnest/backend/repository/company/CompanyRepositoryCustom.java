@@ -0,0 +1,14 @@
+package com.jobnest.backend.repository.company;
+
+import com.jobnest.backend.entities.Company;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CompanyRepositoryCustom {
+
+    /**
+     * Like findAllById, but companies in the second-level cache are not queried.
+     */
+    List<Company> findAllByIdCached(Collection<Long> ids);
+}
@@ -0,0 +1,33 @@
+package com.jobnest.backend.repository.company;
+
+import com.jobnest.backend.entities.Company;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class CompanyRepositoryImpl implements CompanyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Company> findAllByIdCached(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // multiLoad resolves from the session and the second-level cache first and only selects the misses
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Company.class)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,10 +3,14 @@ package com.jobnest.backend.repository.job;
 import com.jobnest.backend.entities.job.Job;
 import com.jobnest.backend.entities.job.JobCategory;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +18,13 @@ import org.springframework.data.domain.Pageable;
 @Repository
 public interface JobCategoryRepository extends JpaRepository<JobCategory, Long> {
 
+    // Served from the query cache until a category is written
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "jobCategoryList")
+    })
+    List<JobCategory> findAllByOrderByNameAsc();
+
     Optional<JobCategory> findBySlug(String slug);
 
     Optional<JobCategory> findByName(String name);
@@ -0,0 +1,67 @@
+package com.jobnest.backend.repository.job;
+
+import com.jobnest.backend.entities.job.Job;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Sort keys allowed for keyset (cursor) pagination over jobs.
+ * Every key is a non-null column, and ties are always broken by id.
+ */
+public enum JobFeedSort {
+    POSTED_AT("postedAt") {
+        @Override
+        public String encodeValue(Job job) {
+            return job.getPostedAt().toString();
+        }
+
+        @Override
+        public Comparable<?> decodeValue(String value) {
+            return LocalDateTime.parse(value);
+        }
+    },
+    TITLE("title") {
+        @Override
+        public String encodeValue(Job job) {
+            return job.getTitle();
+        }
+
+        @Override
+        public Comparable<?> decodeValue(String value) {
+            return value;
+        }
+    },
+    ID("id") {
+        @Override
+        public String encodeValue(Job job) {
+            return job.getId().toString();
+        }
+
+        @Override
+        public Comparable<?> decodeValue(String value) {
+            return Long.valueOf(value);
+        }
+    };
+
+    private final String property;
+
+    JobFeedSort(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public abstract String encodeValue(Job job);
+
+    public abstract Comparable<?> decodeValue(String value);
+
+    public static JobFeedSort fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(property))
+                .findFirst()
+                .orElse(null);
+    }
+}
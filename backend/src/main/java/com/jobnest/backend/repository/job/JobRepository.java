@@ -2,26 +2,34 @@ package com.jobnest.backend.repository.job;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jobnest.backend.entities.job.Job;
-import com.jobnest.backend.entities.job.Job.JobStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
 
-    // Candidate queries - only active jobs
+    // Candidate queries - only active jobs (category is a to-one, so paging stays in the DB)
+    @EntityGraph(attributePaths = "category")
     Page<Job> findByStatus(Job.JobStatus status, Pageable pageable);
 
     // Fetch jobs with category eagerly to avoid LazyInitializationException
     @Query("SELECT j FROM Job j LEFT JOIN FETCH j.category WHERE j.status = :status")
     List<Job> findByStatusWithCategory(@Param("status") Job.JobStatus status);
 
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.category WHERE j.id IN :ids")
+    List<Job> findByIdInWithCategory(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.category LEFT JOIN FETCH j.employer WHERE j.id IN :ids")
+    List<Job> findByIdInWithCategoryAndEmployer(@Param("ids") Collection<Long> ids);
+
     @Query("""
                 SELECT j
                 FROM Job j
@@ -35,24 +43,6 @@ public interface JobRepository extends JpaRepository<Job, Long> {
             "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Job> searchActiveJobs(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("""
-                SELECT
-                    c.id,
-                    c.name,
-                    c.slug,
-                    c.iconUrl,
-                    COUNT(j.id)
-                FROM JobCategory c
-                LEFT JOIN Job j
-                    ON c.id = j.categoryId
-                    AND j.status = :status
-                    AND (j.expiresAt IS NULL OR j.expiresAt > CURRENT_TIMESTAMP)
-                GROUP BY c.id, c.name, c.slug, c.iconUrl
-                ORDER BY c.name ASC
-            """)
-    List<Object[]> countActiveJobsByCategory(
-            @Param("status") JobStatus status);
-
     // Employer queries - their own jobs
     Page<Job> findByEmployerId(Long employerId, Pageable pageable);
 
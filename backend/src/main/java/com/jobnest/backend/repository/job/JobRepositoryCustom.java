@@ -0,0 +1,21 @@
+package com.jobnest.backend.repository.job;
+
+import com.jobnest.backend.entities.job.Job;
+
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Keyset page over jobs with the given status, category fetched.
+     * When afterId is null the first page is returned, otherwise rows strictly
+     * after (afterValue, afterId) in the requested order.
+     */
+    List<Job> findKeysetPage(
+            Job.JobStatus status,
+            JobFeedSort sort,
+            boolean ascending,
+            Comparable<?> afterValue,
+            Long afterId,
+            int limit);
+}
@@ -0,0 +1,63 @@
+package com.jobnest.backend.repository.job;
+
+import com.jobnest.backend.entities.job.Job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public List<Job> findKeysetPage(
+            Job.JobStatus status,
+            JobFeedSort sort,
+            boolean ascending,
+            Comparable<?> afterValue,
+            Long afterId,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> job = query.from(Job.class);
+        job.fetch("category", JoinType.LEFT);
+
+        Expression<Long> id = job.get("id");
+        Expression<Comparable> key = job.get(sort.getProperty());
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(job.get("status"), status));
+
+        if (afterId != null) {
+            Predicate idAfter = ascending ? cb.greaterThan(id, afterId) : cb.lessThan(id, afterId);
+            if (sort == JobFeedSort.ID) {
+                predicates.add(idAfter);
+            } else {
+                Comparable value = afterValue;
+                Predicate keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+                predicates.add(cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter)));
+            }
+        }
+
+        query.select(job)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending
+                        ? List.of(cb.asc(key), cb.asc(id))
+                        : List.of(cb.desc(key), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
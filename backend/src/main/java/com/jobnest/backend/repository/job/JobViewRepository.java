@@ -16,6 +16,8 @@ public interface JobViewRepository extends JpaRepository<JobView, Long> {
 
     long countByJobId(Long jobId);
 
+    long countByJobIdAndViewedAtGreaterThanEqual(Long jobId, LocalDateTime since);
+
     boolean existsByJobIdAndViewerId(Long jobId, Long viewerId);
 
     boolean existsByJobIdAndViewerIp(Long jobId, String viewerIp);
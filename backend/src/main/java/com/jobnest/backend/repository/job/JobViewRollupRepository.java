@@ -0,0 +1,45 @@
+package com.jobnest.backend.repository.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jobnest.backend.entities.job.JobViewRollup;
+import com.jobnest.backend.entities.job.JobViewRollup.Granularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobViewRollupRepository extends JpaRepository<JobViewRollup, JobViewRollup.JobViewRollupId> {
+
+    @Query("""
+        select r
+        from JobViewRollup r
+        where r.id.jobId = :jobId
+          and r.id.granularity = :granularity
+          and r.id.bucketStart >= :from
+          and r.id.bucketStart < :to
+        order by r.id.bucketStart
+    """)
+    List<JobViewRollup> findSeries(
+            @Param("jobId") Long jobId,
+            @Param("granularity") Granularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("""
+        select coalesce(sum(r.views), 0)
+        from JobViewRollup r
+        where r.id.jobId = :jobId
+          and r.id.granularity = :granularity
+          and r.id.bucketStart < :before
+    """)
+    long sumViewsBefore(
+            @Param("jobId") Long jobId,
+            @Param("granularity") Granularity granularity,
+            @Param("before") LocalDateTime before
+    );
+}
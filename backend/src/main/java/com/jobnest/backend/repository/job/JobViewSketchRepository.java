@@ -0,0 +1,15 @@
+package com.jobnest.backend.repository.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jobnest.backend.entities.job.JobViewSketch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface JobViewSketchRepository extends JpaRepository<JobViewSketch, JobViewSketch.JobViewSketchId> {
+
+    List<JobViewSketch> findByIdJobIdAndIdBucketDateIn(Long jobId, List<LocalDate> bucketDates);
+}
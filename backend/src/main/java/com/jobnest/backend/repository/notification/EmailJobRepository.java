@@ -0,0 +1,12 @@
+package com.jobnest.backend.repository.notification;
+
+import com.jobnest.backend.entities.notification.EmailJob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailJobRepository extends JpaRepository<EmailJob, Long> {
+
+    long countByStatus(EmailJob.EmailStatus status);
+}
@@ -0,0 +1,12 @@
+package com.jobnest.backend.repository.notification;
+
+import com.jobnest.backend.entities.notification.NotificationOutbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    long countByStatus(NotificationOutbox.OutboxStatus status);
+}
@@ -1,13 +1,19 @@
 package com.jobnest.backend.security.filter;
 
+import com.jobnest.backend.entities.auth.Account;
 import com.jobnest.backend.security.user.CustomUserDetails;
 import com.jobnest.backend.security.user.CustomUserDetailsService;
-import com.jobnest.backend.utils.JwtUtil;
+import com.jobnest.backend.security.user.PrincipalCache;
+import com.jobnest.backend.security.user.TokenRevocationList;
+import com.jobnest.backend.security.jwt.JwtTokenVerifier;
+import com.jobnest.backend.security.jwt.VerifiedClaims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -20,11 +26,21 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private JwtTokenVerifier jwtTokenVerifier;
 
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    // Build the principal from token claims without touching the database
+    @Value("${app.security.jwt.stateless:false}")
+    private boolean stateless;
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -61,12 +77,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        // Sử dụng validateToken(token, userDetails) đúng signature
-        String email = jwtUtil.extractEmail(token);
-
-        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(email);
+        // Parsed and verified exactly once per request
+        VerifiedClaims claims;
+        try {
+            claims = jwtTokenVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (claims.isRefreshToken()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String email = claims.getEmail();
+        Long userId = claims.getUserId();
+        long issuedAt = claims.getIssuedAt();
+
+        CustomUserDetails userDetails = stateless ? fromClaims(claims, userId) : null;
+        if (userDetails != null) {
+            if (tokenRevocationList.isRevoked(userId, issuedAt)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+        } else {
+            userDetails = principalCache.get(userId, issuedAt,
+                    () -> (CustomUserDetails) userDetailsService.loadUserByUsername(email));
+        }
 
-        if (!jwtUtil.validateToken(token, userDetails)) {
+        if (!email.equals(userDetails.getUsername()) || !userDetails.isAccountNonLocked()) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -80,8 +118,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 new WebAuthenticationDetailsSource().buildDetails(request));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        // Only for tokens that passed the revocation and account checks above
+        request.setAttribute(VerifiedClaims.REQUEST_ATTRIBUTE, claims);
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal from the token alone, or null when the token predates the claims it needs
+     * (no userId/role, or a candidate without candidateProfileId) and the account must be loaded.
+     */
+    private CustomUserDetails fromClaims(VerifiedClaims claims, Long userId) {
+        String role = claims.getRole();
+        if (userId == null || role == null) {
+            return null;
+        }
+        Account.Role accountRole = Account.Role.valueOf(role);
+        Long candidateProfileId = claims.getCandidateProfileId();
+        if (accountRole == Account.Role.CANDIDATE && candidateProfileId == null) {
+            return null;
+        }
+        return CustomUserDetails.fromClaims(userId, claims.getSubject(), accountRole, candidateProfileId);
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.jobnest.backend.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Holds the HMAC signing key and a parser built once at startup. Parsers are immutable and
+ * thread-safe, so every token is verified with the same instance.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenVerifier(@Value("${jwt.secret}") String secret) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    public SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Checks signature and expiry and returns the claims.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedClaims verify(String token) {
+        return new VerifiedClaims(parser.parseClaimsJws(token).getBody());
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobnest.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Immutable view of a token whose signature and expiry have been checked by
+ * {@link JwtTokenVerifier}. The filter stores it on the request under {@link #REQUEST_ATTRIBUTE}
+ * once the request is authenticated, so controllers read the claims with
+ * {@code @RequestAttribute} instead of parsing the bearer token again.
+ */
+@Getter
+public final class VerifiedClaims {
+
+    public static final String REQUEST_ATTRIBUTE = "com.jobnest.backend.security.jwt.VerifiedClaims";
+
+    private final String subject;
+    private final Long userId;
+    private final String role;
+    private final Long candidateProfileId;
+    private final String tokenType;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    VerifiedClaims(Claims claims) {
+        this.subject = claims.getSubject();
+        this.userId = claims.get("userId", Long.class);
+        this.role = claims.get("role", String.class);
+        this.candidateProfileId = claims.get("candidateProfileId", Long.class);
+        this.tokenType = claims.get("tokenType", String.class);
+        this.issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        this.expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+    }
+
+    /**
+     * The email the token was issued for.
+     */
+    public String getEmail() {
+        return subject;
+    }
+
+    public Date getExpiration() {
+        return new Date(expiresAt);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+}
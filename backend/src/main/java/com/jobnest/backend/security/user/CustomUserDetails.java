@@ -22,6 +22,19 @@ public class CustomUserDetails implements UserDetails {
         this.candidateProfileId = candidateProfileId;
     }
 
+    /**
+     * Principal built from verified access-token claims only (stateless JWT mode). The account
+     * carries id, email, role and an ACTIVE status; other fields are not populated.
+     */
+    public static CustomUserDetails fromClaims(Long userId, String email, Account.Role role, Long candidateProfileId) {
+        Account account = new Account();
+        account.setId(userId);
+        account.setEmail(email);
+        account.setRole(role);
+        account.setStatus(Account.AccountStatus.ACTIVE);
+        return new CustomUserDetails(account, candidateProfileId);
+    }
+
     public Account getAccount() {
         return this.account;
     }
@@ -0,0 +1,91 @@
+package com.jobnest.backend.security.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of the principals built by {@link CustomUserDetailsService}, keyed by
+ * user id and the access token's issued-at time, so a token only hits the database once per TTL.
+ *
+ * Services that change an account's status, role, password or profile call {@link #invalidate}.
+ * Changes made any other way (another node, a manual DB edit) show up within ttl-ms.
+ */
+@Component
+public class PrincipalCache {
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public PrincipalCache(@Value("${app.security.principal-cache.ttl-ms:60000}") long ttlMs,
+                          @Value("${app.security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    public CustomUserDetails get(Long userId, long issuedAt, Supplier<CustomUserDetails> loader) {
+        if (userId == null || ttlMs <= 0) {
+            return loader.get();
+        }
+
+        Key key = new Key(userId, issuedAt);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.principal;
+        }
+
+        CustomUserDetails principal = loader.get();
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(key, new Entry(principal, now + ttlMs));
+        return principal;
+    }
+
+    /**
+     * Drops every cached principal of the user, now and again once the current transaction
+     * commits so a request racing the commit cannot re-cache the old state.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entries.keySet().removeIf(key -> key.userId.equals(userId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.keySet().removeIf(key -> key.userId.equals(userId));
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Still full of live entries: drop arbitrary ones, they are cheap to reload
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Key(Long userId, long issuedAt) {
+    }
+
+    private record Entry(CustomUserDetails principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobnest.backend.security.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users whose access tokens issued before a point in time must be rejected, used by the
+ * stateless JWT mode where the account is never read on the request path.
+ *
+ * Entries only need to outlive the access tokens they revoke, so they are dropped after
+ * jwt.access-token-expiration. The list is per node; blocking an account on one node
+ * revokes its tokens on that node only.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final long accessTokenTtlMs;
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(@Value("${jwt.access-token-expiration:900000}") long accessTokenTtlMs) {
+        this.accessTokenTtlMs = accessTokenTtlMs;
+    }
+
+    public void revoke(Long userId) {
+        revokedBefore.put(userId, System.currentTimeMillis());
+        purgeExpired();
+    }
+
+    public void clear(Long userId) {
+        revokedBefore.remove(userId);
+    }
+
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        Long revokedAt = revokedBefore.get(userId);
+        // iat has second precision, so a token issued in the same second as the revocation is rejected too
+        return revokedAt != null && issuedAtMillis <= revokedAt;
+    }
+
+    private void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - accessTokenTtlMs;
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < cutoff);
+    }
+}
@@ -8,6 +8,7 @@ import com.jobnest.backend.entities.job.Job;
 import com.jobnest.backend.repository.application.ApplicationRepository;
 import com.jobnest.backend.repository.candidate.CandidateProfileRepository;
 import com.jobnest.backend.repository.job.JobRepository;
+import com.jobnest.backend.service.company.leaderboard.CompanyLeaderboard;
 import com.jobnest.backend.service.notification.NotificationService;
 
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
@@ -30,8 +30,8 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final CandidateProfileRepository candidateProfileRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
+    private final CompanyLeaderboard companyLeaderboard;
 
     @Override
     @Transactional
@@ -70,14 +70,8 @@ public class ApplicationServiceImpl implements ApplicationService {
         Application saved = applicationRepository.save(application);
 
         // CREATE NOTIFICATION FOR EMPLOYER
-        Long employerId = job.getEmployer().getId();
-        notificationService.createNotification(
-            employerId,
-            "New CV Submitted",
-            "A new candidate has applied for your job: " + job.getTitle(),
-            "NEW_APPLICATION",
-            saved.getId()
-        );
+        notificationService.notifyNewApplication(job, saved);
+        companyLeaderboard.recordApplication(job.getCompanyId());
 
         // Notify candidate
         notificationService.createNotification(
@@ -143,11 +137,6 @@ public class ApplicationServiceImpl implements ApplicationService {
             application
         );
 
-        // Send WebSocket notification to candidate
-        Long candidateId = application.getCandidate().getId();
-        String notification = "Your application status has been updated to: " + status;
-        messagingTemplate.convertAndSend("/topic/notifications/" + candidateId, notification);
-
         return new ApplicationResponse(updated);
     }
 
@@ -8,6 +8,8 @@ public interface AccountService {
     Account register(RegisterRequest req);
     Account registerWithGoogle(String email, String name, String picture, String googleId, String role);
     AuthResponse login(LoginRequest req);
+    String issueAccessToken(Account account);
+    String refreshAccessToken(String refreshToken);
     Account findByEmail(String email);
     Account findById(Long id);
     Account updateProfile(Long accountId, Account updates);
@@ -8,6 +8,10 @@ import com.jobnest.backend.entities.auth.PasswordResetToken;
 import com.jobnest.backend.repository.auth.EmailVerificationRepository;
 import com.jobnest.backend.repository.auth.PasswordResetTokenRepository;
 import com.jobnest.backend.repository.auth.UserRepository;
+import com.jobnest.backend.repository.candidate.CandidateProfileRepository;
+import com.jobnest.backend.security.jwt.VerifiedClaims;
+import com.jobnest.backend.security.user.PrincipalCache;
+import com.jobnest.backend.security.user.TokenRevocationList;
 import com.jobnest.backend.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +32,9 @@ public class AccountServiceImpl implements AccountService {
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final CandidateProfileRepository candidateProfileRepository;
 
     @Override
     @Transactional
@@ -87,11 +94,7 @@ public class AccountServiceImpl implements AccountService {
         userRepository.save(account);
 
         // Generate real JWT tokens
-        String accessToken = jwtService.generateAccessToken(
-            account.getId(), 
-            account.getEmail(), 
-            account.getRole().name()
-        );
+        String accessToken = issueAccessToken(account);
         String refreshToken = jwtService.generateRefreshToken(
             account.getId(), 
             account.getEmail()
@@ -104,6 +107,40 @@ public class AccountServiceImpl implements AccountService {
         return new AuthResponse(accessToken, refreshToken, accountDTO);
     }
 
+    @Override
+    public String issueAccessToken(Account account) {
+        // Lets the stateless JWT mode build the principal without loading the profile
+        Long candidateProfileId = null;
+        if (account.getRole() == Account.Role.CANDIDATE) {
+            candidateProfileId = candidateProfileRepository.findByUser_Id(account.getId())
+                    .map(profile -> profile.getId())
+                    .orElse(null);
+        }
+        return jwtService.generateAccessToken(
+            account.getId(),
+            account.getEmail(),
+            account.getRole().name(),
+            candidateProfileId
+        );
+    }
+
+    @Override
+    public String refreshAccessToken(String refreshToken) {
+        if (refreshToken == null || !refreshTokenService.validateRefreshToken(refreshToken)) {
+            throw new RuntimeException("Invalid or expired refresh token");
+        }
+        VerifiedClaims claims = jwtService.verify(refreshToken);
+        // Blocking revokes refresh tokens issued before it, like access tokens
+        if (tokenRevocationList.isRevoked(claims.getUserId(), claims.getIssuedAt())) {
+            throw new RuntimeException("Invalid or expired refresh token");
+        }
+        Account account = findByEmail(claims.getEmail());
+        if (account.getStatus() != Account.AccountStatus.ACTIVE) {
+            throw new RuntimeException("Account is not active");
+        }
+        return issueAccessToken(account);
+    }
+
     @Override
     @Transactional
     public Account registerWithGoogle(String email, String name, String picture, String googleId, String role) {
@@ -157,7 +194,9 @@ public class AccountServiceImpl implements AccountService {
         }
         
         account.setUpdatedBy(accountId);
-        return userRepository.save(account);
+        Account saved = userRepository.save(account);
+        principalCache.invalidate(accountId);
+        return saved;
     }
 
     @Override
@@ -172,6 +211,7 @@ public class AccountServiceImpl implements AccountService {
         account.setPasswordHash(passwordEncoder.encode(req.getNewPassword()));
         account.setUpdatedBy(accountId);
         userRepository.save(account);
+        principalCache.invalidate(accountId);
     }
 
     @Override
@@ -205,6 +245,7 @@ public class AccountServiceImpl implements AccountService {
         Account account = resetToken.getAccount();
         account.setPasswordHash(passwordEncoder.encode(req.getNewPassword()));
         userRepository.save(account);
+        principalCache.invalidate(account.getId());
         
         // Mark token as used
         resetToken.setIsUsed(true);
@@ -243,6 +284,7 @@ public class AccountServiceImpl implements AccountService {
         Account account = verification.getAccount();
         account.setStatus(Account.AccountStatus.ACTIVE);
         userRepository.save(account);
+        principalCache.invalidate(account.getId());
         
         verification.setIsUsed(true);
         emailVerificationRepository.save(verification);
@@ -254,6 +296,10 @@ public class AccountServiceImpl implements AccountService {
         Account account = findById(accountId);
         account.setStatus(Account.AccountStatus.BLOCKED);
         userRepository.save(account);
+        principalCache.invalidate(accountId);
+        tokenRevocationList.revoke(accountId);
+        // The revocation entry only outlives access tokens; stored refresh tokens are removed for good
+        refreshTokenService.revokeAllUserTokens(accountId);
     }
 
     @Override
@@ -262,6 +308,8 @@ public class AccountServiceImpl implements AccountService {
         Account account = findById(accountId);
         account.setStatus(Account.AccountStatus.ACTIVE);
         userRepository.save(account);
+        principalCache.invalidate(accountId);
+        tokenRevocationList.clear(accountId);
     }
 
     private AccountDTO mapToDTO(Account account) {
@@ -1,24 +1,22 @@
 package com.jobnest.backend.service.auth;
 
-import io.jsonwebtoken.Claims;
+import com.jobnest.backend.security.jwt.JwtTokenVerifier;
+import com.jobnest.backend.security.jwt.VerifiedClaims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:jobnest-super-secret-key-that-should-be-at-least-256-bits-long-for-hs256}")
-    private String secretKey;
+    @Autowired
+    private JwtTokenVerifier jwtTokenVerifier;
 
     @Value("${jwt.access-token-expiration:900000}") // 15 minutes
     private Long accessTokenExpiration;
@@ -26,15 +24,18 @@ public class JwtService {
     @Value("${jwt.refresh-token-expiration:604800000}") // 7 days
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    public String generateAccessToken(Long userId, String email, String role) {
+        return generateAccessToken(userId, email, role, null);
     }
 
-    public String generateAccessToken(Long userId, String email, String role) {
+    public String generateAccessToken(Long userId, String email, String role, Long candidateProfileId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("email", email);
         claims.put("role", role);
+        if (candidateProfileId != null) {
+            claims.put("candidateProfileId", candidateProfileId);
+        }
         return generateToken(claims, email, accessTokenExpiration);
     }
 
@@ -51,45 +52,15 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(jwtTokenVerifier.getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public Long extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("userId", Long.class));
-    }
-
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public boolean isTokenValid(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email)) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * For tokens that do not arrive as the bearer token, e.g. refresh tokens. Bearer claims
+     * are already on the request under {@link VerifiedClaims#REQUEST_ATTRIBUTE}.
+     */
+    public VerifiedClaims verify(String token) {
+        return jwtTokenVerifier.verify(token);
     }
 }
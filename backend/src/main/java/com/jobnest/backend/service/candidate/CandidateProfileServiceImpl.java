@@ -6,6 +6,7 @@ import com.jobnest.backend.entities.auth.Account;
 import com.jobnest.backend.entities.candidate.CandidateProfile;
 import com.jobnest.backend.repository.auth.UserRepository;
 import com.jobnest.backend.repository.candidate.CandidateProfileRepository;
+import com.jobnest.backend.security.user.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ public class CandidateProfileServiceImpl implements CandidateProfileService {
 
     private final CandidateProfileRepository candidateProfileRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public CandidateProfileResponse getProfile(Long userId) {
@@ -56,7 +58,12 @@ public class CandidateProfileServiceImpl implements CandidateProfileService {
         
         profile.setAboutMe(request.getAboutMe());
 
+        boolean created = profile.getId() == null;
         CandidateProfile savedProfile = candidateProfileRepository.save(profile);
+        if (created) {
+            // Cached principals of this user still have no candidateProfileId
+            principalCache.invalidate(userId);
+        }
         return new CandidateProfileResponse(savedProfile);
     }
 }
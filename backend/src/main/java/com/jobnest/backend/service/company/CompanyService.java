@@ -7,7 +7,7 @@ import com.jobnest.backend.entities.auth.Account;
 import java.util.List;
 
 public interface CompanyService {
-    List<CompanyResponse> getTopCompanies();
+    List<CompanyResponse> getTopCompanies(int k, String rankBy);
         CompanyResponse createCompany(Account employer, CreateCompanyRequest request);
 
 }
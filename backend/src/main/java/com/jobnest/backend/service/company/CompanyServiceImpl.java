@@ -4,13 +4,18 @@ import com.jobnest.backend.dto.request.CreateCompanyRequest;
 import com.jobnest.backend.dto.response.CompanyResponse;
 import com.jobnest.backend.entities.Company;
 import com.jobnest.backend.entities.auth.Account;
+import com.jobnest.backend.exception.BadRequestException;
 import com.jobnest.backend.repository.company.CompanyRepository;
+import com.jobnest.backend.service.company.leaderboard.CompanyLeaderboard;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,24 +23,44 @@ import java.util.stream.Collectors;
 public class CompanyServiceImpl implements CompanyService {
     
     private final CompanyRepository companyRepository;
+    private final CompanyLeaderboard companyLeaderboard;
     
     @Override
-    public List<CompanyResponse> getTopCompanies() {
-        List<Object[]> results = companyRepository.findTopCompaniesByJobCount();
-        
-        return results.stream()
-                .map(row -> new CompanyResponse(
-                    (Long) row[0],      // id
-                    (String) row[1],    // name
-                    (String) row[2],    // logoUrl
-                    (String) row[3],    // industry
-                    (String) row[4],    // address
-                    (Boolean) row[5],   // verified
-                    (Long) row[6]       // openPositions (job count)
-                ))
+    public List<CompanyResponse> getTopCompanies(int k, String rankBy) {
+        CompanyLeaderboard.RankBy ranking = parseRankBy(rankBy);
+        if (k < 1 || k > companyLeaderboard.getCapacity()) {
+            throw new BadRequestException("k must be between 1 and " + companyLeaderboard.getCapacity());
+        }
+
+        List<Map.Entry<Long, Long>> top = companyLeaderboard.top(k, ranking);
+        Map<Long, Company> companies = companyRepository.findAllByIdCached(
+                        top.stream().map(Map.Entry::getKey).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Company::getId, Function.identity()));
+
+        // Keeps the leaderboard order
+        return top.stream()
+                .map(entry -> companies.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .map(company -> {
+                    CompanyResponse response = new CompanyResponse(company);
+                    response.setOpenPositions(
+                            companyLeaderboard.score(company.getId(), CompanyLeaderboard.RankBy.ACTIVE_JOBS));
+                    response.setRecentApplications(
+                            companyLeaderboard.score(company.getId(), CompanyLeaderboard.RankBy.RECENT_APPLICATIONS));
+                    return response;
+                })
                 .collect(Collectors.toList());
     }
 
+    private static CompanyLeaderboard.RankBy parseRankBy(String rankBy) {
+        try {
+            return CompanyLeaderboard.RankBy.valueOf(rankBy.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported rankBy: " + rankBy);
+        }
+    }
+
     @Override
 public CompanyResponse createCompany(Account employer, CreateCompanyRequest req) {
 
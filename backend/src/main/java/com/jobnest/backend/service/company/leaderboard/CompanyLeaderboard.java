@@ -0,0 +1,118 @@
+package com.jobnest.backend.service.company.leaderboard;
+
+import com.jobnest.backend.service.job.counter.CompanyCountListener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top companies by active jobs and by applications received in the last window-days, each kept in
+ * a bounded {@link TopKHeap} so the homepage widget never sorts the full company list.
+ *
+ * Active job counts stream in from ActiveJobCounters. Applications are added as they are made;
+ * the window is applied by a recount every refresh-ms, which also picks up other nodes' applications.
+ */
+@Slf4j
+@Component
+public class CompanyLeaderboard implements CompanyCountListener {
+
+    public enum RankBy {
+        ACTIVE_JOBS, RECENT_APPLICATIONS
+    }
+
+    private static final String RECENT_APPLICATIONS_SQL = """
+            SELECT j.company_id, count(*) FROM applications a
+            JOIN jobs j ON j.id = a.job_id
+            WHERE a.applied_at >= ? AND j.company_id IS NOT NULL
+            GROUP BY j.company_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int windowDays;
+    private final TopKHeap byActiveJobs;
+    private final TopKHeap byRecentApplications;
+
+    public CompanyLeaderboard(JdbcTemplate jdbcTemplate,
+                              @Value("${app.companies.leaderboard.capacity:50}") int capacity,
+                              @Value("${app.companies.leaderboard.window-days:7}") int windowDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.windowDays = windowDays;
+        this.byActiveJobs = new TopKHeap(capacity);
+        this.byRecentApplications = new TopKHeap(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Company ids with their score, best first.
+     */
+    public List<Map.Entry<Long, Long>> top(int k, RankBy rankBy) {
+        return heap(rankBy).top(k);
+    }
+
+    public long score(Long companyId, RankBy rankBy) {
+        return heap(rankBy).score(companyId);
+    }
+
+    @Override
+    public void companyCountChanged(Long companyId, long activeJobs) {
+        byActiveJobs.set(companyId, activeJobs);
+    }
+
+    /**
+     * Counts an application for the company once the current transaction commits.
+     */
+    public void recordApplication(Long companyId) {
+        if (companyId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    byRecentApplications.add(companyId, 1);
+                }
+            });
+        } else {
+            byRecentApplications.add(companyId, 1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.companies.leaderboard.refresh-ms:300000}",
+            initialDelayString = "${app.companies.leaderboard.refresh-ms:300000}")
+    public void refreshRecentApplications() {
+        try {
+            Map<Long, Long> counts = new HashMap<>();
+            jdbcTemplate.query(RECENT_APPLICATIONS_SQL,
+                    rs -> {
+                        counts.put(rs.getLong(1), rs.getLong(2));
+                    },
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(windowDays)));
+            byRecentApplications.reset(counts);
+        } catch (Exception e) {
+            log.warn("Could not refresh recent application leaderboard: {}", e.getMessage());
+        }
+    }
+
+    private TopKHeap heap(RankBy rankBy) {
+        return rankBy == RankBy.RECENT_APPLICATIONS ? byRecentApplications : byActiveJobs;
+    }
+}
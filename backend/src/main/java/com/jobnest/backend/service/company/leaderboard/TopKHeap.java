@@ -0,0 +1,169 @@
+package com.jobnest.backend.service.company.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The K highest scores among a changing set of ids, as an indexed min-heap of at most
+ * {@code capacity} entries whose root is the weakest member.
+ *
+ * Increases and new ids cost O(log K): a member moves within the heap, an outsider replaces the
+ * root if it beats it. A member that drops may now rank below an outsider the heap no longer
+ * sees, so a drop marks the heap stale and the next read rebuilds it from all scores in
+ * O(N log K). Ties rank the lower id first. Ids with a score of zero are not ranked.
+ */
+class TopKHeap {
+
+    private final int capacity;
+    private final Map<Long, Long> scores = new HashMap<>();
+
+    private final long[] ids;
+    private final long[] values;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size;
+    private boolean stale;
+
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    synchronized long score(long id) {
+        return scores.getOrDefault(id, 0L);
+    }
+
+    synchronized void add(long id, long delta) {
+        set(id, scores.getOrDefault(id, 0L) + delta);
+    }
+
+    synchronized void set(long id, long score) {
+        Long previous = score > 0 ? scores.put(id, score) : scores.remove(id);
+        Integer position = positions.get(id);
+        if (position == null) {
+            if (score > 0) {
+                offer(id, score);
+            }
+            return;
+        }
+        if (score <= 0) {
+            removeAt(position);
+            stale = scores.size() > size;
+        } else if (previous == null || score >= previous) {
+            values[position] = score;
+            siftDown(position);
+        } else {
+            values[position] = score;
+            siftUp(position);
+            stale = scores.size() > size;
+        }
+    }
+
+    synchronized void reset(Map<Long, Long> all) {
+        scores.clear();
+        all.forEach((id, score) -> {
+            if (score > 0) {
+                scores.put(id, score);
+            }
+        });
+        rebuild();
+    }
+
+    /**
+     * The best {@code k} (at most capacity) as id/score pairs, highest first.
+     */
+    synchronized List<Map.Entry<Long, Long>> top(int k) {
+        if (stale) {
+            rebuild();
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(Map.entry(ids[i], values[i]));
+        }
+        entries.sort((a, b) -> less(a.getKey(), a.getValue(), b.getKey(), b.getValue()) ? 1
+                : less(b.getKey(), b.getValue(), a.getKey(), a.getValue()) ? -1 : 0);
+        return entries.subList(0, Math.min(k, entries.size()));
+    }
+
+    private void rebuild() {
+        positions.clear();
+        size = 0;
+        scores.forEach(this::offer);
+        stale = false;
+    }
+
+    private void offer(long id, long score) {
+        if (size < capacity) {
+            ids[size] = id;
+            values[size] = score;
+            positions.put(id, size);
+            siftUp(size++);
+        } else if (less(ids[0], values[0], id, score)) {
+            positions.remove(ids[0]);
+            ids[0] = id;
+            values[0] = score;
+            positions.put(id, 0);
+            siftDown(0);
+        }
+    }
+
+    private void removeAt(int position) {
+        positions.remove(ids[position]);
+        size--;
+        if (position == size) {
+            return;
+        }
+        move(size, position);
+        siftDown(position);
+        siftUp(position);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!less(ids[position], values[position], ids[parent], values[parent])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                if (less(ids[child], values[child], ids[smallest], values[smallest])) {
+                    smallest = child;
+                }
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        long value = values[a];
+        move(b, a);
+        ids[b] = id;
+        values[b] = value;
+        positions.put(id, b);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        values[to] = values[from];
+        positions.put(ids[to], to);
+    }
+
+    // Whether (idA, a) ranks below (idB, b)
+    private static boolean less(long idA, long a, long idB, long b) {
+        return a != b ? a < b : idA > idB;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobnest.backend.service.email;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket per recipient mail provider (the address's domain), so a burst of mail to one
+ * provider stays under its throttling limits without slowing down mail to the others.
+ */
+class DomainRateLimiter {
+
+    private final int defaultPerMinute;
+    private final Map<String, Integer> perMinuteByDomain;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param overrides "gmail.com=30,yahoo.com=20"; other domains get {@code defaultPerMinute}
+     */
+    DomainRateLimiter(int defaultPerMinute, String overrides) {
+        this.defaultPerMinute = defaultPerMinute;
+        this.perMinuteByDomain = new HashMap<>();
+        if (overrides != null) {
+            for (String pair : overrides.split(",")) {
+                String[] parts = pair.split("=");
+                if (parts.length == 2 && !parts[0].isBlank()) {
+                    perMinuteByDomain.put(parts[0].trim().toLowerCase(Locale.ROOT), Integer.parseInt(parts[1].trim()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes a token for the recipient's domain.
+     *
+     * @return 0 if taken, otherwise nanoseconds until one is available (nothing is taken)
+     */
+    long tryAcquire(String recipient) {
+        String domain = domainOf(recipient);
+        return buckets.computeIfAbsent(domain, d -> new Bucket(perMinuteByDomain.getOrDefault(d, defaultPerMinute)))
+                .tryAcquire();
+    }
+
+    static String domainOf(String recipient) {
+        int at = recipient.lastIndexOf('@');
+        return at < 0 ? "" : recipient.substring(at + 1).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Bucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        Bucket(int perMinute) {
+            // Allows a burst of up to a tenth of the minute's budget
+            this.capacity = Math.max(1, perMinute / 10.0);
+            this.tokensPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+        }
+
+        synchronized long tryAcquire() {
+            if (tokensPerNano <= 0) {
+                // Zero or negative rate: not limited
+                return 0;
+            }
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.jobnest.backend.service.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the rows of email_jobs.
+ *
+ * A poller claims due rows (FOR UPDATE SKIP LOCKED, leased for lease-ms) into a small in-memory
+ * queue; worker threads send them over an SMTP connection each one keeps open between messages.
+ * No database connection is held while talking to the mail server. Sent rows are deleted, failed
+ * rows are retried with exponential backoff and become DEAD after max-attempts. Each recipient
+ * domain is rate limited; mail over its limit is pushed back in the table rather than blocking a worker.
+ */
+@Slf4j
+@Component
+public class EmailDeliveryWorker {
+
+    private static final String CLAIM_SQL = """
+            UPDATE email_jobs SET status = 'SENDING', next_attempt_at = ?
+            WHERE id IN (
+                SELECT id FROM email_jobs
+                WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, recipient, subject, html_body, attempts
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE email_jobs
+            SET status = ?, attempts = attempts + 1, next_attempt_at = ?, last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String DEFER_SQL =
+            "UPDATE email_jobs SET status = 'PENDING', next_attempt_at = ? WHERE id = ?";
+
+    private static final String DEPTH_SQL = """
+            SELECT count(*) FILTER (WHERE status <> 'DEAD'), count(*) FILTER (WHERE status = 'DEAD')
+            FROM email_jobs
+            """;
+
+    private static final RowMapper<ClaimedEmail> ROW_MAPPER = (rs, rowNum) -> new ClaimedEmail(
+            rs.getLong("id"),
+            rs.getString("recipient"),
+            rs.getString("subject"),
+            rs.getString("html_body"),
+            rs.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor executor;
+    private final DomainRateLimiter rateLimiter;
+    private final int workers;
+    private final long pollIntervalMs;
+    private final long leaseMs;
+    private final int maxAttempts;
+    private final long idleCloseMs;
+    private final long maxRateWaitNanos;
+
+    @Value("${spring.mail.username:}")
+    private String fromEmail;
+
+    private final BlockingQueue<ClaimedEmail> claimed;
+    private final BlockingQueue<Boolean> wakeUps = new ArrayBlockingQueue<>(1);
+    private volatile boolean running;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Counter deferredCounter;
+    private final Timer sendTimer;
+
+    public EmailDeliveryWorker(JdbcTemplate jdbcTemplate,
+                               JavaMailSender mailSender,
+                               @Qualifier("emailWorkerExecutor") ThreadPoolTaskExecutor executor,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.email.workers:2}") int workers,
+                               @Value("${app.email.poll-interval-ms:5000}") long pollIntervalMs,
+                               @Value("${app.email.lease-ms:600000}") long leaseMs,
+                               @Value("${app.email.max-attempts:6}") int maxAttempts,
+                               @Value("${app.email.idle-close-ms:30000}") long idleCloseMs,
+                               @Value("${app.email.rate.default-per-minute:120}") int defaultPerMinute,
+                               @Value("${app.email.rate.per-domain:}") String perDomain) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mailSender = mailSender;
+        this.executor = executor;
+        this.rateLimiter = new DomainRateLimiter(defaultPerMinute, perDomain);
+        this.workers = workers;
+        this.pollIntervalMs = pollIntervalMs;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+        this.idleCloseMs = idleCloseMs;
+        this.maxRateWaitNanos = TimeUnit.SECONDS.toNanos(2);
+        this.claimed = new LinkedBlockingQueue<>(workers * 4);
+
+        this.sentCounter = meterRegistry.counter("jobnest.email.sent");
+        this.retriedCounter = meterRegistry.counter("jobnest.email.retried");
+        this.deadCounter = meterRegistry.counter("jobnest.email.dead");
+        this.deferredCounter = meterRegistry.counter("jobnest.email.rate_limited");
+        this.sendTimer = Timer.builder("jobnest.email.send")
+                .description("SMTP send time per message, excluding connection setup")
+                .register(meterRegistry);
+        meterRegistry.gauge("jobnest.email.pending", pending);
+        meterRegistry.gauge("jobnest.email.dead_letters", dead);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor.execute(this::poll);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        // Hand claimed but unsent mail back right away instead of waiting for the lease
+        List<ClaimedEmail> unsent = new ArrayList<>();
+        claimed.drainTo(unsent);
+        for (ClaimedEmail email : unsent) {
+            defer(email, 0);
+        }
+    }
+
+    /**
+     * Polls soon after the current transaction commits, instead of waiting for the next poll.
+     */
+    public void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUps.offer(Boolean.TRUE);
+                }
+            });
+        } else {
+            wakeUps.offer(Boolean.TRUE);
+        }
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                wakeUps.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                int free = claimed.remainingCapacity();
+                if (free > 0) {
+                    Timestamp leaseUntil = Timestamp.valueOf(LocalDateTime.now().plusNanos(leaseMs * 1_000_000));
+                    claimed.addAll(jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, leaseUntil, free));
+                }
+                jdbcTemplate.query(DEPTH_SQL, rs -> {
+                    pending.set(rs.getLong(1));
+                    dead.set(rs.getLong(2));
+                });
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.warn("Email poll failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void work() {
+        SmtpConnection connection = new SmtpConnection();
+        try {
+            while (running) {
+                ClaimedEmail email = claimed.poll(1, TimeUnit.SECONDS);
+                if (email == null) {
+                    connection.closeIfIdle(idleCloseMs);
+                    continue;
+                }
+                long waitNanos = rateLimiter.tryAcquire(email.recipient());
+                while (waitNanos > 0 && waitNanos <= maxRateWaitNanos) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                    waitNanos = rateLimiter.tryAcquire(email.recipient());
+                }
+                if (waitNanos > 0) {
+                    deferredCounter.increment();
+                    defer(email, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                    continue;
+                }
+                send(email, connection);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void send(ClaimedEmail email, SmtpConnection connection) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromEmail);
+            helper.setTo(email.recipient());
+            helper.setSubject(email.subject());
+            helper.setText(email.htmlBody(), true);
+
+            long started = System.nanoTime();
+            connection.send(message);
+            sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            connection.close();
+            fail(email, e);
+            return;
+        }
+        sentCounter.increment();
+
+        // Already delivered, so a failure here must not be treated as a send failure
+        try {
+            jdbcTemplate.update("DELETE FROM email_jobs WHERE id = ?", email.id());
+        } catch (Exception e) {
+            log.warn("Email job {} was sent but could not be removed: {}", email.id(), e.getMessage());
+        }
+    }
+
+    private void fail(ClaimedEmail email, Exception cause) {
+        // Bad addresses will not get better with retries
+        boolean permanent = cause instanceof AddressException
+                || (cause instanceof SendFailedException failed
+                    && failed.getValidUnsentAddresses() == null && failed.getInvalidAddresses() != null);
+        boolean isDead = permanent || email.attempts() + 1 >= maxAttempts;
+        // 30s, 1m, 2m, 4m ... capped at 1 hour
+        long delayMs = Math.min(TimeUnit.SECONDS.toMillis(30) << Math.min(email.attempts(), 20),
+                TimeUnit.HOURS.toMillis(1));
+        String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        try {
+            jdbcTemplate.update(RETRY_SQL,
+                    isDead ? "DEAD" : "PENDING",
+                    Timestamp.valueOf(LocalDateTime.now().plusNanos(delayMs * 1_000_000)),
+                    error.length() > 500 ? error.substring(0, 500) : error,
+                    email.id());
+        } catch (Exception e) {
+            log.warn("Could not record failure of email job {}: {}", email.id(), e.getMessage());
+            return;
+        }
+        if (isDead) {
+            deadCounter.increment();
+            log.warn("Email job {} to {} is dead after {} attempts: {}",
+                    email.id(), email.recipient(), email.attempts() + 1, error);
+        } else {
+            retriedCounter.increment();
+        }
+    }
+
+    private void defer(ClaimedEmail email, long delayMs) {
+        try {
+            jdbcTemplate.update(DEFER_SQL,
+                    Timestamp.valueOf(LocalDateTime.now().plusNanos(delayMs * 1_000_000)), email.id());
+        } catch (Exception e) {
+            // The lease runs out and the row is claimed again
+            log.warn("Could not release email job {}: {}", email.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * One worker's SMTP connection, opened on first use and reused until it fails or idles out.
+     */
+    private class SmtpConnection {
+        private Transport transport;
+        private long lastUsed;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+                mailSender.send(message);
+                return;
+            }
+            if (transport == null || !transport.isConnected()) {
+                close();
+                transport = impl.getSession().getTransport(impl.getProtocol());
+                transport.connect(impl.getHost(), impl.getPort(), impl.getUsername(), impl.getPassword());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            lastUsed = System.currentTimeMillis();
+        }
+
+        void closeIfIdle(long idleMs) {
+            if (transport != null && System.currentTimeMillis() - lastUsed > idleMs) {
+                close();
+            }
+        }
+
+        void close() {
+            if (transport != null) {
+                try {
+                    transport.close();
+                } catch (MessagingException ignored) {
+                    // Already broken
+                }
+                transport = null;
+            }
+        }
+    }
+
+    private record ClaimedEmail(long id, String recipient, String subject, String htmlBody, int attempts) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobnest.backend.service.email;
+
+import com.jobnest.backend.entities.notification.EmailJob;
+import com.jobnest.backend.repository.notification.EmailJobRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues emails in the caller's transaction. Nothing is sent unless that transaction commits,
+ * and the caller never waits for SMTP.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailQueue {
+
+    private final EmailJobRepository emailJobRepository;
+    private final EmailDeliveryWorker emailDeliveryWorker;
+
+    public void enqueue(String recipient, String subject, String htmlBody) {
+        EmailJob job = new EmailJob();
+        job.setRecipient(recipient);
+        job.setSubject(subject);
+        job.setHtmlBody(htmlBody);
+        emailJobRepository.save(job);
+
+        emailDeliveryWorker.wakeUpAfterCommit();
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobnest.backend.service.email;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template parsed once into alternating literal text and {{variable}} slots.
+ *
+ * Rendering walks the slots into one StringBuilder sized from the literal length plus the
+ * largest output seen so far, so a render normally allocates its buffer once.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // Even indexes are literals, odd indexes are variable names
+    private final String[] parts;
+    private final boolean escapeHtml;
+    private volatile int sizeHint;
+
+    private EmailTemplate(List<String> parts, boolean escapeHtml) {
+        this.parts = parts.toArray(new String[0]);
+        this.escapeHtml = escapeHtml;
+        int literalLength = 0;
+        for (int i = 0; i < this.parts.length; i += 2) {
+            literalLength += this.parts[i].length();
+        }
+        this.sizeHint = literalLength + 32 * (this.parts.length / 2);
+    }
+
+    public static EmailTemplate parse(String source, boolean escapeHtml) {
+        return new EmailTemplate(split(source), escapeHtml);
+    }
+
+    /**
+     * Inlines other templates into the slots they are named after (e.g. a body into the layout's
+     * {{content}}), so the merged template renders in a single pass.
+     */
+    public EmailTemplate with(Map<String, EmailTemplate> inlined) {
+        List<String> merged = new ArrayList<>();
+        merged.add("");
+        for (int i = 0; i < parts.length; i++) {
+            EmailTemplate inner = i % 2 == 1 ? inlined.get(parts[i]) : null;
+            if (inner != null) {
+                appendAll(merged, inner.parts);
+            } else if (i % 2 == 1) {
+                merged.add(parts[i]);
+                merged.add("");
+            } else {
+                appendLiteral(merged, parts[i]);
+            }
+        }
+        return new EmailTemplate(merged, escapeHtml);
+    }
+
+    public String render(Map<String, ?> variables) {
+        StringBuilder out = new StringBuilder(sizeHint);
+        out.append(parts[0]);
+        for (int i = 1; i < parts.length; i += 2) {
+            Object value = variables.get(parts[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing email template variable: " + parts[i]);
+            }
+            String text = value.toString();
+            out.append(escapeHtml ? HtmlUtils.htmlEscape(text, "UTF-8") : text);
+            out.append(parts[i + 1]);
+        }
+        if (out.length() > sizeHint) {
+            sizeHint = out.length();
+        }
+        return out.toString();
+    }
+
+    private static List<String> split(String source) {
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, from);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                parts.add(source.substring(from));
+                return parts;
+            }
+            parts.add(source.substring(from, open));
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty variable at offset " + open);
+            }
+            parts.add(name);
+            from = close + CLOSE.length();
+        }
+    }
+
+    private static void appendAll(List<String> merged, String[] inner) {
+        appendLiteral(merged, inner[0]);
+        for (int i = 1; i < inner.length; i++) {
+            merged.add(inner[i]);
+        }
+    }
+
+    // Joins adjacent literals so the merged template keeps the literal/variable alternation
+    private static void appendLiteral(List<String> merged, String literal) {
+        int last = merged.size() - 1;
+        merged.set(last, merged.get(last) + literal);
+    }
+}
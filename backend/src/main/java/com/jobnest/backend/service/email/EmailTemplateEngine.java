@@ -0,0 +1,141 @@
+package com.jobnest.backend.service.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email templates from classpath:templates/email, compiled once at startup.
+ *
+ * Files are named {name}_{language}.html. A template starts with "subject:" and "title:" header
+ * lines, then a blank line, then the body; values are written as {{name}} and are HTML-escaped in
+ * the body. Each body is merged into layout_{language}.html ({{title}}, {{content}}) when loaded,
+ * so rendering is a single pass over precompiled segments. A language without the requested
+ * template falls back to app.email.default-language.
+ */
+@Slf4j
+@Component
+public class EmailTemplateEngine {
+
+    private static final String LOCATION = "classpath*:templates/email/*.html";
+    private static final String LAYOUT = "layout";
+
+    private final MeterRegistry meterRegistry;
+    private final String defaultLanguage;
+
+    // Keyed by "name_language"
+    private final Map<String, CompiledEmail> templates = new HashMap<>();
+
+    public EmailTemplateEngine(MeterRegistry meterRegistry,
+                               @Value("${app.email.default-language:en}") String defaultLanguage) throws IOException {
+        this.meterRegistry = meterRegistry;
+        this.defaultLanguage = normalize(defaultLanguage);
+        load();
+    }
+
+    public RenderedEmail render(String name, String language, Map<String, ?> variables) {
+        CompiledEmail template = templates.get(name + "_" + normalize(language));
+        if (template == null) {
+            template = templates.get(name + "_" + defaultLanguage);
+        }
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        long started = System.nanoTime();
+        RenderedEmail rendered = new RenderedEmail(template.subject().render(variables), template.html().render(variables));
+        meterRegistry.timer("jobnest.email.render", "template", name)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return rendered;
+    }
+
+    public String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
+    private void load() throws IOException {
+        Map<String, String> layouts = new HashMap<>();
+        Map<String, String> bodies = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+            String file = resource.getFilename();
+            String key = file.substring(0, file.length() - ".html".length());
+            String source = resource.getContentAsString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+            if (key.startsWith(LAYOUT + "_")) {
+                layouts.put(language(key), source);
+            } else {
+                bodies.put(key, source);
+            }
+        }
+
+        Map<String, EmailTemplate> compiledLayouts = new HashMap<>();
+        layouts.forEach((language, source) -> compiledLayouts.put(language, EmailTemplate.parse(source, true)));
+
+        for (Map.Entry<String, String> entry : bodies.entrySet()) {
+            EmailTemplate layout = compiledLayouts.get(language(entry.getKey()));
+            if (layout == null) {
+                throw new IllegalStateException("No email layout for template " + entry.getKey());
+            }
+            templates.put(entry.getKey(), compile(entry.getKey(), entry.getValue(), layout));
+        }
+        log.info("Loaded {} email templates", templates.size());
+    }
+
+    private static CompiledEmail compile(String key, String source, EmailTemplate layout) {
+        String subject = null;
+        String title = null;
+        int lineStart = 0;
+        while (true) {
+            int lineEnd = source.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                throw new IllegalStateException("Email template " + key + " has no body");
+            }
+            String line = source.substring(lineStart, lineEnd).trim();
+            lineStart = lineEnd + 1;
+            if (line.isEmpty()) {
+                break;
+            } else if (line.startsWith("subject:")) {
+                subject = line.substring("subject:".length()).trim();
+            } else if (line.startsWith("title:")) {
+                title = line.substring("title:".length()).trim();
+            } else {
+                throw new IllegalStateException("Unknown header in email template " + key + ": " + line);
+            }
+        }
+        if (subject == null || title == null) {
+            throw new IllegalStateException("Email template " + key + " needs subject and title headers");
+        }
+        EmailTemplate html = layout.with(Map.of(
+                "title", EmailTemplate.parse(title, true),
+                "content", EmailTemplate.parse(stripTrailingNewline(source.substring(lineStart)), true)));
+        return new CompiledEmail(EmailTemplate.parse(subject, false), html);
+    }
+
+    private static String stripTrailingNewline(String body) {
+        return body.endsWith("\n") ? body.substring(0, body.length() - 1) : body;
+    }
+
+    private static String language(String key) {
+        return key.substring(key.lastIndexOf('_') + 1);
+    }
+
+    // "vi-VN", "VI" -> "vi"
+    private static String normalize(String language) {
+        if (language == null || language.isBlank()) {
+            return "";
+        }
+        String lower = language.trim().toLowerCase();
+        int region = lower.indexOf('-') >= 0 ? lower.indexOf('-') : lower.indexOf('_');
+        return region > 0 ? lower.substring(0, region) : lower;
+    }
+
+    private record CompiledEmail(EmailTemplate subject, EmailTemplate html) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.jobnest.backend.service.email;
+
+public record RenderedEmail(String subject, String html) {
+}
@@ -0,0 +1,41 @@
+package com.jobnest.backend.service.job;
+
+import com.jobnest.backend.entities.job.Job;
+
+import lombok.Getter;
+
+/**
+ * Published by JobServiceImpl whenever a job is created, edited or changes status.
+ * In-memory read models (search index, facets, counters) listen for it after commit.
+ */
+@Getter
+public class JobChangedEvent {
+
+    private final Job job;
+
+    // null when the job was just created
+    private final Job.JobStatus previousStatus;
+
+    // Differ from the job's current values only when an edit moved it
+    private final Long previousCategoryId;
+    private final Long previousCompanyId;
+
+    public JobChangedEvent(Job job, Job.JobStatus previousStatus) {
+        this(job, previousStatus, job.getCategoryId(), job.getCompanyId());
+    }
+
+    public JobChangedEvent(Job job, Job.JobStatus previousStatus, Long previousCategoryId, Long previousCompanyId) {
+        this.job = job;
+        this.previousStatus = previousStatus;
+        this.previousCategoryId = previousCategoryId;
+        this.previousCompanyId = previousCompanyId;
+    }
+
+    public boolean isActive() {
+        return job.getStatus() == Job.JobStatus.ACTIVE;
+    }
+
+    public boolean wasActive() {
+        return previousStatus == Job.JobStatus.ACTIVE;
+    }
+}
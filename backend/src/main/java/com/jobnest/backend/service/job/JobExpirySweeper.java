@@ -0,0 +1,99 @@
+package com.jobnest.backend.service.job;
+
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.repository.job.JobRepository;
+import com.jobnest.backend.service.notification.NotificationService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves ACTIVE jobs past their expires_at to EXPIRED.
+ *
+ * Due jobs are found through idx_jobs_status_expires_at and flipped batch-size at a time, each
+ * batch in its own transaction (SKIP LOCKED, so nodes sweeping at the same time split the work).
+ * Every expired job publishes a JobChangedEvent, which drops it from the in-memory listing
+ * indexes after commit, and its employer is notified in one batch per sweep batch.
+ */
+@Slf4j
+@Component
+public class JobExpirySweeper {
+
+    private static final String EXPIRE_SQL = """
+            UPDATE jobs SET status = 'EXPIRED', updated_at = now()
+            WHERE id IN (
+                SELECT id FROM jobs
+                WHERE status = 'ACTIVE' AND expires_at <= now()
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRepository jobRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public JobExpirySweeper(JdbcTemplate jdbcTemplate,
+                            JobRepository jobRepository,
+                            NotificationService notificationService,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.jobs.expiry.batch-size:200}") int batchSize,
+                            @Value("${app.jobs.expiry.max-batches:50}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.sweep-interval-ms:60000}",
+            initialDelayString = "${app.jobs.expiry.initial-delay-ms:30000}")
+    public void sweep() {
+        int expired = 0;
+        try {
+            // Bounded per run so a large backlog does not hold the scheduler thread
+            for (int i = 0; i < maxBatches; i++) {
+                Integer rows = transactionTemplate.execute(status -> expireBatch());
+                expired += rows;
+                if (rows < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Job expiry sweep failed: {}", e.getMessage());
+        }
+        if (expired > 0) {
+            log.info("Expired {} jobs", expired);
+        }
+    }
+
+    private int expireBatch() {
+        List<Long> ids = jdbcTemplate.queryForList(EXPIRE_SQL, Long.class, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Loaded after the update, so the entities already carry the EXPIRED status
+        List<Job> jobs = jobRepository.findByIdInWithCategoryAndEmployer(ids);
+        for (Job job : jobs) {
+            eventPublisher.publishEvent(new JobChangedEvent(job, Job.JobStatus.ACTIVE));
+        }
+        notificationService.notifyJobsExpired(jobs);
+        return ids.size();
+    }
+}
@@ -0,0 +1,71 @@
+package com.jobnest.backend.service.job;
+
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.exception.BadRequestException;
+import com.jobnest.backend.repository.job.JobFeedSort;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for the active job feed.
+ * Encodes the sort it was issued for plus the (value, id) of the last row,
+ * so the next page can continue with a keyset predicate instead of an offset.
+ */
+@Getter
+public class JobFeedCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001f";
+
+    private final JobFeedSort sort;
+    private final boolean ascending;
+    private final Comparable<?> value;
+    private final Long id;
+
+    private JobFeedCursor(JobFeedSort sort, boolean ascending, Comparable<?> value, Long id) {
+        this.sort = sort;
+        this.ascending = ascending;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static String encode(JobFeedSort sort, boolean ascending, Job last) {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                sort.name(),
+                ascending ? "asc" : "desc",
+                sort.encodeValue(last),
+                last.getId().toString());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobFeedCursor decode(String token, JobFeedSort expectedSort, boolean expectedAscending) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!expectedSort.name().equals(parts[1])
+                || expectedAscending != "asc".equals(parts[2])) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+        try {
+            return new JobFeedCursor(
+                    expectedSort,
+                    expectedAscending,
+                    expectedSort.decodeValue(parts[3]),
+                    Long.valueOf(parts[4]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
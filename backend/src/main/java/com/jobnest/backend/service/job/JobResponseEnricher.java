@@ -0,0 +1,87 @@
+package com.jobnest.backend.service.job;
+
+import com.jobnest.backend.dto.response.JobResponse;
+import com.jobnest.backend.entities.Company;
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.repository.auth.UserRepository;
+import com.jobnest.backend.repository.company.CompanyRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds JobResponse DTOs for a whole page at once.
+ * Employer names and company info are resolved with one IN query per type
+ * instead of one findById per job.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobResponseEnricher {
+
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+
+    public JobResponse toResponse(Job job) {
+        return toResponses(List.of(job)).get(0);
+    }
+
+    public List<JobResponse> toResponses(Collection<Job> jobs) {
+        List<JobResponse> responses = jobs.stream()
+                .map(JobResponse::new)
+                .collect(Collectors.toList());
+        enrich(responses);
+        return responses;
+    }
+
+    public Page<JobResponse> toResponsePage(Page<Job> jobs) {
+        return new PageImpl<>(toResponses(jobs.getContent()), jobs.getPageable(), jobs.getTotalElements());
+    }
+
+    /**
+     * Fills employerName, companyName and companyLogo on already-built responses.
+     */
+    public void enrich(List<JobResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Set<Long> employerIds = responses.stream()
+                .map(JobResponse::getEmployerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> companyIds = responses.stream()
+                .map(JobResponse::getCompanyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, String> usernames = employerIds.isEmpty()
+                ? Map.of()
+                : userRepository.findUsernamesByIdIn(employerIds).stream()
+                        .collect(Collectors.toMap(row -> (Long) row[0], row -> (String) row[1]));
+        Map<Long, Company> companies = companyIds.isEmpty()
+                ? Map.of()
+                : companyRepository.findAllByIdCached(companyIds).stream()
+                        .collect(Collectors.toMap(Company::getId, Function.identity()));
+
+        for (JobResponse response : responses) {
+            if (response.getEmployerId() != null) {
+                response.setEmployerName(usernames.get(response.getEmployerId()));
+            }
+            Company company = response.getCompanyId() != null ? companies.get(response.getCompanyId()) : null;
+            if (company != null) {
+                response.setCompanyName(company.getName());
+                response.setCompanyLogo(company.getLogoUrl());
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.jobnest.backend.service.job;
 
+import com.jobnest.backend.dto.response.CursorPageResponse;
 import com.jobnest.backend.dto.response.JobCategoryResponse;
 import com.jobnest.backend.dto.request.ExtendJobRequest;
+import com.jobnest.backend.dto.request.JobFacetSearchRequest;
 import com.jobnest.backend.dto.request.JobCategoryRequest;
 import com.jobnest.backend.dto.request.JobRequest;
+import com.jobnest.backend.dto.response.JobFacetSearchResponse;
 import com.jobnest.backend.dto.response.JobResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +17,9 @@ public interface JobService {
     
     // Candidate operations
     Page<JobResponse> getAllActiveJobs(Pageable pageable);
+    CursorPageResponse<JobResponse> getActiveJobFeed(String cursor, int size, String sortBy, String sortDir, boolean includeTotal);
     Page<JobResponse> searchActiveJobs(String keyword, Pageable pageable);
+    JobFacetSearchResponse facetedSearch(JobFacetSearchRequest request, Pageable pageable);
     JobResponse getJobById(Long id, Long viewerId, String viewerIp);
     
     // Category stats
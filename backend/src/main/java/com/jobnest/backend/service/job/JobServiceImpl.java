@@ -1,9 +1,13 @@
 package com.jobnest.backend.service.job;
 
+import com.jobnest.backend.dto.response.CursorPageResponse;
+import com.jobnest.backend.dto.response.FacetCount;
+import com.jobnest.backend.dto.response.JobFacetSearchResponse;
 import com.jobnest.backend.dto.response.JobCategoryResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jobnest.backend.dto.request.ExtendJobRequest;
+import com.jobnest.backend.dto.request.JobFacetSearchRequest;
 import com.jobnest.backend.dto.request.JobCategoryRequest;
 import com.jobnest.backend.dto.request.JobRequest;
 import com.jobnest.backend.dto.response.JobResponse;
@@ -12,24 +16,45 @@ import com.jobnest.backend.entities.auth.Account;
 import com.jobnest.backend.entities.job.Job;
 import com.jobnest.backend.entities.job.Job.JobStatus;
 import com.jobnest.backend.entities.job.JobCategory;
-import com.jobnest.backend.entities.job.JobView;
 import com.jobnest.backend.entities.job.SavedJob;
 import com.jobnest.backend.entities.system.AuditLog;
+import com.jobnest.backend.exception.BadRequestException;
+import com.jobnest.backend.exception.ServiceUnavailableException;
 import com.jobnest.backend.repository.*;
 import com.jobnest.backend.repository.auth.UserRepository;
 import com.jobnest.backend.repository.company.CompanyRepository;
 import com.jobnest.backend.repository.job.JobCategoryRepository;
+import com.jobnest.backend.repository.job.JobFeedSort;
 import com.jobnest.backend.repository.job.JobRepository;
-import com.jobnest.backend.repository.job.JobViewRepository;
+
+import com.jobnest.backend.service.job.counter.ActiveJobCounters;
+import com.jobnest.backend.service.job.facet.JobFacet;
+import com.jobnest.backend.service.job.facet.JobFacetIndex;
+import com.jobnest.backend.service.job.search.JobSearchIndex;
+import com.jobnest.backend.service.job.view.JobViewBuffer;
+import com.jobnest.backend.service.job.view.JobViewSketchStore;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,65 +62,169 @@ import java.util.stream.Collectors;
 public class JobServiceImpl implements JobService {
 
     private final JobRepository jobRepository;
-    private final JobViewRepository jobViewRepository;
     private final SavedJobRepository savedJobRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final AuditLogRepository auditLogRepository;
     private final JobCategoryRepository jobCategoryRepository;
+    private final JobResponseEnricher jobResponseEnricher;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobViewBuffer jobViewBuffer;
+    private final JobViewSketchStore jobViewSketchStore;
+    private final ActiveJobCounters activeJobCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
+    @Value("${app.jobs.feed.total-cache-ms:60000}")
+    private long activeCountTtlMs;
+
+    private volatile long activeCountEstimate;
+    private volatile long activeCountComputedAt;
 
     // ==================== CANDIDATE OPERATIONS ====================
 
     @Override
     public Page<JobResponse> getAllActiveJobs(Pageable pageable) {
-        // Use fetch join to avoid LazyInitializationException
-        List<Job> jobs = jobRepository.findByStatusWithCategory(Job.JobStatus.ACTIVE);
-        List<JobResponse> responses = jobs.stream().map(this::convertToResponse).collect(Collectors.toList());
-        // Manually create a Page from the list (since fetch join disables pagination)
-        int pageSize = pageable.getPageSize();
-        int currentPage = pageable.getPageNumber();
-        int startItem = currentPage * pageSize;
-        List<JobResponse> pageContent;
-        if (jobs.size() < startItem) {
-            pageContent = List.of();
-        } else {
-            int toIndex = Math.min(startItem + pageSize, jobs.size());
-            pageContent = responses.subList(startItem, toIndex);
+        return jobResponseEnricher.toResponsePage(
+                jobRepository.findByStatus(Job.JobStatus.ACTIVE, pageable));
+    }
+
+    @Override
+    public CursorPageResponse<JobResponse> getActiveJobFeed(
+            String cursor, int size, String sortBy, String sortDir, boolean includeTotal) {
+        JobFeedSort sort = JobFeedSort.fromProperty(sortBy);
+        if (sort == null) {
+            throw new BadRequestException("Unsupported sort key: " + sortBy);
+        }
+        boolean ascending = sortDir.equalsIgnoreCase("asc");
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        Comparable<?> afterValue = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            JobFeedCursor decoded = JobFeedCursor.decode(cursor, sort, ascending);
+            afterValue = decoded.getValue();
+            afterId = decoded.getId();
         }
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, jobs.size());
+
+        // Fetch one extra row to know whether another page exists
+        List<Job> jobs = jobRepository.findKeysetPage(
+                Job.JobStatus.ACTIVE, sort, ascending, afterValue, afterId, pageSize + 1);
+        boolean hasNext = jobs.size() > pageSize;
+        if (hasNext) {
+            jobs = jobs.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext
+                ? JobFeedCursor.encode(sort, ascending, jobs.get(jobs.size() - 1))
+                : null;
+        List<JobResponse> content = jobResponseEnricher.toResponses(jobs);
+
+        return new CursorPageResponse<>(
+                content,
+                content.size(),
+                nextCursor,
+                hasNext,
+                includeTotal ? estimateActiveJobCount() : null);
     }
 
     @Override
     public Page<JobResponse> searchActiveJobs(String keyword, Pageable pageable) {
-        return jobRepository.searchActiveJobs(keyword, pageable)
-                .map(this::convertToResponse);
+        // Fall back to the LIKE query while the in-memory index is still building
+        if (!jobSearchIndex.isReady() || keyword.isBlank()) {
+            return jobResponseEnricher.toResponsePage(
+                    jobRepository.searchActiveJobs(keyword, pageable));
+        }
+
+        JobSearchIndex.SearchResult result = jobSearchIndex.search(
+                keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Job> jobsById = jobRepository.findByIdInWithCategory(result.getJobIds()).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        // Keep the ranking order from the index
+        List<Job> ranked = result.getJobIds().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(jobResponseEnricher.toResponses(ranked), pageable, result.getTotal());
+    }
+
+    @Override
+    public JobFacetSearchResponse facetedSearch(JobFacetSearchRequest request, Pageable pageable) {
+        Map<JobFacet, Set<String>> filters = new EnumMap<>(JobFacet.class);
+        filters.put(JobFacet.CATEGORY, toSet(request.getCategoryIds()));
+        filters.put(JobFacet.TYPE, toSet(request.getTypes()));
+        filters.put(JobFacet.LOCATION, toSet(request.getLocations()));
+        filters.put(JobFacet.SALARY_BAND, toSet(request.getSalaryBands()));
+        filters.put(JobFacet.EXPERIENCE_LEVEL, toSet(request.getExperienceLevels()));
+        if (request.getUrgent() != null) {
+            filters.put(JobFacet.URGENT, Set.of(request.getUrgent().toString()));
+        }
+
+        String keyword = request.getKeyword();
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+
+        // An index that is still building would silently drop matches and miscount facets
+        if (!jobSearchIndex.isReady() || !jobFacetIndex.isReady()) {
+            throw new ServiceUnavailableException("Job search is starting up, please retry shortly");
+        }
+        List<Long> keywordMatches = hasKeyword ? jobSearchIndex.matchAll(keyword) : null;
+        JobFacetIndex.FacetResult result = jobFacetIndex.query(
+                filters, keywordMatches, (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Job> jobsById = jobRepository.findByIdInWithCategory(result.getJobIds()).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> ordered = result.getJobIds().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Map<String, String> categoryNames = jobCategoryRepository.findAllByOrderByNameAsc().stream()
+                .collect(Collectors.toMap(c -> c.getId().toString(), JobCategory::getName));
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        result.getCounts().forEach((facet, counts) -> {
+            List<FacetCount> values = new ArrayList<>(counts.size());
+            counts.forEach((value, count) -> values.add(new FacetCount(
+                    value, facet == JobFacet.CATEGORY ? categoryNames.getOrDefault(value, value) : value, count)));
+            values.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+                    .thenComparing(FacetCount::getLabel));
+            facets.put(facet.getKey(), values);
+        });
+
+        return new JobFacetSearchResponse(
+                jobResponseEnricher.toResponses(ordered),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                result.getTotal(),
+                facets);
+    }
+
+    private static Set<String> toSet(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<String> set = new HashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                set.add(value.trim());
+            }
+        }
+        return set;
     }
 
     
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public JobResponse getJobById(Long id, Long viewerId, String viewerIp) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
-        // Record view if not already viewed
-        boolean alreadyViewed = false;
-        if (viewerId != null) {
-            alreadyViewed = jobViewRepository.existsByJobIdAndViewerId(id, viewerId);
-        } else if (viewerIp != null) {
-            alreadyViewed = jobViewRepository.existsByJobIdAndViewerIp(id, viewerIp);
-        }
+        // Recorded asynchronously, deduplicated by the buffer
+        jobViewBuffer.record(id, viewerId, viewerIp);
 
-        if (!alreadyViewed) {
-            JobView jobView = new JobView();
-            jobView.setJobId(id);
-            jobView.setViewerId(viewerId);
-            jobView.setViewerIp(viewerIp);
-            jobViewRepository.save(jobView);
-        }
-
-        JobResponse response = convertToResponse(job);
-        response.setViewCount(jobViewRepository.countByJobId(id));
+        JobResponse response = jobResponseEnricher.toResponse(job);
+        response.setViewCount(jobViewSketchStore.uniqueViewers(id));
         if (viewerId != null) {
             response.setIsSaved(savedJobRepository.existsByUserIdAndJobId(viewerId, id));
         }
@@ -104,16 +233,16 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public List<JobCategoryResponse> getCategoryStats() {
-        List<Object[]> results =jobRepository.countActiveJobsByCategory(JobStatus.ACTIVE);
-
-        return results.stream()
-                .map(row -> new JobCategoryResponse(
-                        (Long) row[0], // id
-                        (String) row[1], // name
-                        (String) row[2], // slug
-                        (String) row[3], // iconUrl
+        Map<Long, Long> counts = activeJobCounters.getCategoryCounts();
+
+        return jobCategoryRepository.findAllByOrderByNameAsc().stream()
+                .map(category -> new JobCategoryResponse(
+                        category.getId(),
+                        category.getName(),
+                        category.getSlug(),
+                        category.getIconUrl(),
                         null, // description (not needed for stats)
-                        (Long) row[4] // openPositions
+                        counts.getOrDefault(category.getId(), 0L) // openPositions
                 ))
                 .collect(Collectors.toList());
     }
@@ -156,7 +285,8 @@ public class JobServiceImpl implements JobService {
         job.setExpiresAt(LocalDateTime.now().plusDays(30)); // Default 30 days
 
         Job saved = jobRepository.save(job);
-        return convertToResponse(saved);
+        eventPublisher.publishEvent(new JobChangedEvent(saved, null));
+        return jobResponseEnricher.toResponse(saved);
     }
 
     @Override
@@ -181,6 +311,8 @@ public class JobServiceImpl implements JobService {
                     .orElseThrow(() -> new RuntimeException("Category not found"));
         }
 
+        Long previousCategoryId = job.getCategoryId();
+        Long previousCompanyId = job.getCompanyId();
         job.setCompanyId(request.getCompanyId());
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
@@ -196,7 +328,9 @@ public class JobServiceImpl implements JobService {
         job.setIsUrgent(request.getIsUrgent());
 
         Job updated = jobRepository.save(job);
-        return convertToResponse(updated);
+        eventPublisher.publishEvent(
+                new JobChangedEvent(updated, updated.getStatus(), previousCategoryId, previousCompanyId));
+        return jobResponseEnricher.toResponse(updated);
     }
 
     @Override
@@ -209,8 +343,10 @@ public class JobServiceImpl implements JobService {
             throw new RuntimeException("Not authorized to hide this job");
         }
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.HIDDEN);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
     }
 
     @Override
@@ -223,8 +359,10 @@ public class JobServiceImpl implements JobService {
             throw new RuntimeException("Not authorized to unhide this job");
         }
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.ACTIVE);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
     }
 
     @Override
@@ -237,34 +375,43 @@ public class JobServiceImpl implements JobService {
             throw new RuntimeException("Not authorized to extend this job");
         }
 
-        LocalDateTime newExpiresAt = job.getExpiresAt() != null
+        // An already expired job is extended from now, not from its old expiry
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime newExpiresAt = job.getExpiresAt() != null && job.getExpiresAt().isAfter(now)
                 ? job.getExpiresAt().plusDays(request.getDays())
-                : LocalDateTime.now().plusDays(request.getDays());
+                : now.plusDays(request.getDays());
 
         job.setExpiresAt(newExpiresAt);
+
+        // Extending an expired job puts it back in the listings
+        Job.JobStatus previousStatus = job.getStatus();
+        if (previousStatus == Job.JobStatus.EXPIRED) {
+            job.setStatus(Job.JobStatus.ACTIVE);
+        }
         jobRepository.save(job);
+        if (job.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
+        }
     }
 
     @Override
     public Page<JobResponse> getEmployerJobs(Long employerId, Pageable pageable) {
-        return jobRepository.findByEmployerId(employerId, pageable)
-                .map(this::convertToResponse);
+        return jobResponseEnricher.toResponsePage(
+                jobRepository.findByEmployerId(employerId, pageable));
     }
 
     @Override
     public List<JobResponse> getAllEmployerJobs(Long employerId) {
-       return jobRepository.findByEmployerIdWithCategory(employerId)
-        .stream()
-        .map(this::convertToResponse)
-        .collect(Collectors.toList());}
+        return jobResponseEnricher.toResponses(
+                jobRepository.findByEmployerIdWithCategory(employerId));
+    }
 
 
     // ==================== ADMIN OPERATIONS ====================
 
     @Override
     public Page<JobResponse> getAllJobs(Pageable pageable) {
-        return jobRepository.findAll(pageable)
-                .map(this::convertToResponse);
+        return jobResponseEnricher.toResponsePage(jobRepository.findAll(pageable));
     }
 
     @Override
@@ -273,8 +420,10 @@ public class JobServiceImpl implements JobService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.ACTIVE);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
 
         logAdminAction(adminId, "APPROVE_JOB", "Job", jobId,
                 "Approved job: " + job.getTitle());
@@ -286,8 +435,10 @@ public class JobServiceImpl implements JobService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.HIDDEN);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
 
         logAdminAction(adminId, "REJECT_JOB", "Job", jobId,
                 "Rejected job: " + job.getTitle());
@@ -299,8 +450,10 @@ public class JobServiceImpl implements JobService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.HIDDEN);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
 
         logAdminAction(adminId, "HIDE_JOB", "Job", jobId,
                 "Hidden job: " + job.getTitle());
@@ -312,8 +465,10 @@ public class JobServiceImpl implements JobService {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
+        Job.JobStatus previousStatus = job.getStatus();
         job.setStatus(Job.JobStatus.ACTIVE);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job, previousStatus));
 
         logAdminAction(adminId, "RESTORE_JOB", "Job", jobId,
                 "Restored job: " + job.getTitle());
@@ -354,35 +509,27 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public List<JobResponse> getSavedJobs(Long userId) {
-        return savedJobRepository.findByUserIdWithJob(userId, Pageable.unpaged()).stream()
-                .map(savedJob -> {
-                    Job job = savedJob.getJob();
-                    JobResponse response = convertToResponse(job);
-                    response.setIsSaved(true);
-                    return response;
-                })
+        List<Job> jobs = savedJobRepository.findByUserIdWithJob(userId, Pageable.unpaged()).stream()
+                .map(SavedJob::getJob)
                 .collect(Collectors.toList());
+        List<JobResponse> responses = jobResponseEnricher.toResponses(jobs);
+        responses.forEach(response -> response.setIsSaved(true));
+        return responses;
     }
 
     // ==================== HELPER METHODS ====================
 
-    private JobResponse convertToResponse(Job job) {
-        JobResponse response = new JobResponse(job);
-
-        // Get employer name
-        userRepository.findById(job.getEmployerId()).ifPresent(account -> {
-            response.setEmployerName(account.getUsername());
-        });
-
-        // Get company info if companyId exists
-        if (job.getCompanyId() != null) {
-            companyRepository.findById(job.getCompanyId()).ifPresent(company -> {
-                response.setCompanyName(company.getName());
-                response.setCompanyLogo(company.getLogoUrl());
-            });
+    /**
+     * Active job count for the feed, refreshed at most once per TTL.
+     * An exact COUNT on every page would cost as much as the page itself.
+     */
+    private long estimateActiveJobCount() {
+        long now = System.currentTimeMillis();
+        if (now - activeCountComputedAt > activeCountTtlMs) {
+            activeCountEstimate = jobRepository.countByStatus(Job.JobStatus.ACTIVE);
+            activeCountComputedAt = now;
         }
-
-        return response;
+        return activeCountEstimate;
     }
 
     private void logAdminAction(
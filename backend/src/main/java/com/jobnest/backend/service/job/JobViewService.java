@@ -1,6 +1,7 @@
 package com.jobnest.backend.service.job;
 
 import com.jobnest.backend.dto.response.JobResponse;
+import com.jobnest.backend.dto.response.JobViewStatsResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,4 +9,6 @@ public interface JobViewService {
     void recordView(Long jobId, Long viewerId, String viewerIp);
     Page<JobResponse> getViewedJobs(Long viewerId, Pageable pageable);
     Long getViewCount(Long jobId);
+    Long getUniqueViewers(Long jobId, int days);
+    JobViewStatsResponse getViewStats(Long jobId, String granularity, int days);
 }
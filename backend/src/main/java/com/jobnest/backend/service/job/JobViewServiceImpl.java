@@ -1,17 +1,26 @@
 package com.jobnest.backend.service.job;
 
 import com.jobnest.backend.dto.response.JobResponse;
+import com.jobnest.backend.dto.response.JobViewStatsResponse;
+import com.jobnest.backend.entities.job.JobViewRollup;
+import com.jobnest.backend.exception.BadRequestException;
 import com.jobnest.backend.entities.job.JobView;
 import com.jobnest.backend.repository.job.JobViewRepository;
+import com.jobnest.backend.repository.job.JobViewRollupRepository;
+import com.jobnest.backend.service.job.view.JobViewBuffer;
+import com.jobnest.backend.service.job.view.JobViewRollupJob;
+import com.jobnest.backend.service.job.view.JobViewSketchStore;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
 
 @Service
 public class JobViewServiceImpl implements JobViewService {
@@ -19,25 +28,25 @@ public class JobViewServiceImpl implements JobViewService {
     @Autowired
     private JobViewRepository jobViewRepository;
 
+    @Autowired
+    private JobResponseEnricher jobResponseEnricher;
+
+    @Autowired
+    private JobViewBuffer jobViewBuffer;
+
+    @Autowired
+    private JobViewSketchStore jobViewSketchStore;
+
+    @Autowired
+    private JobViewRollupRepository jobViewRollupRepository;
+
+    @Autowired
+    private JobViewRollupJob jobViewRollupJob;
+
     @Override
-    @Transactional
     public void recordView(Long jobId, Long viewerId, String viewerIp) {
-        // Check if user already viewed this job recently (within 1 hour)
-        if (viewerId != null) {
-            LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-            Optional<JobView> recentView = jobViewRepository
-                    .findFirstByJobIdAndViewerIdAndViewedAtAfterOrderByViewedAtDesc(
-                            jobId, viewerId, oneHourAgo);
-            if (recentView.isPresent()) {
-                return;
-            }
-        }
-
-        JobView jobView = new JobView();
-        jobView.setJobId(jobId);
-        jobView.setViewerId(viewerId);
-        jobView.setViewerIp(viewerIp);
-        jobViewRepository.save(jobView);
+        // Repeat views within the dedupe window are dropped by the buffer
+        jobViewBuffer.record(jobId, viewerId, viewerIp);
     }
 @Override
 public Page<JobResponse> getViewedJobs(Long viewerId, Pageable pageable) {
@@ -45,12 +54,40 @@ public Page<JobResponse> getViewedJobs(Long viewerId, Pageable pageable) {
     Page<JobView> jobViews =
             jobViewRepository.findByViewerIdWithJob(viewerId, pageable);
 
-    return jobViews.map(jv -> new JobResponse(jv.getJob()));
+    return jobResponseEnricher.toResponsePage(jobViews.map(JobView::getJob));
 }
 
 
     @Override
     public Long getViewCount(Long jobId) {
-        return jobViewRepository.countByJobId(jobId);
+        return jobViewSketchStore.uniqueViewers(jobId);
+    }
+
+    @Override
+    public Long getUniqueViewers(Long jobId, int days) {
+        return jobViewSketchStore.uniqueViewers(jobId, days);
+    }
+
+    @Override
+    public JobViewStatsResponse getViewStats(Long jobId, String granularity, int days) {
+        JobViewRollup.Granularity bucketSize;
+        try {
+            bucketSize = JobViewRollup.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("granularity must be HOUR or DAY");
+        }
+        if (days < 1 || days > 365) {
+            throw new BadRequestException("days must be between 1 and 365");
+        }
+
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.truncatedTo(ChronoUnit.DAYS).minusDays(days - 1L);
+        List<JobViewStatsResponse.Bucket> buckets = jobViewRollupRepository
+                .findSeries(jobId, bucketSize, from, to).stream()
+                .map(r -> new JobViewStatsResponse.Bucket(
+                        r.getId().getBucketStart(), r.getViews(), r.getUniqueViewers()))
+                .collect(Collectors.toList());
+
+        return new JobViewStatsResponse(jobId, bucketSize.name(), jobViewRollupJob.totalViews(jobId), buckets);
     }
 }
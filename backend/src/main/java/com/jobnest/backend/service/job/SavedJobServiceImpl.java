@@ -24,6 +24,9 @@ public class SavedJobServiceImpl implements SavedJobService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JobResponseEnricher jobResponseEnricher;
+
     @Override
     @Transactional
     public void saveJob(Long userId, Long jobId) {
@@ -62,7 +65,9 @@ public Page<JobResponse> getSavedJobs(Long userId, Pageable pageable) {
     Page<SavedJob> savedJobs =
             savedJobRepository.findByUserIdWithJob(userId, pageable);
 
-    return savedJobs.map(sj -> new JobResponse(sj.getJob()));
+    Page<JobResponse> responses = jobResponseEnricher.toResponsePage(savedJobs.map(SavedJob::getJob));
+    responses.forEach(response -> response.setIsSaved(true));
+    return responses;
 }
 
 }
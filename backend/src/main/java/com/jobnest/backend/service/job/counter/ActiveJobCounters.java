@@ -0,0 +1,258 @@
+package com.jobnest.backend.service.job.counter;
+
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.entities.job.JobCounter.Scope;
+import com.jobnest.backend.service.job.JobChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Number of ACTIVE jobs per category and per company, so the homepage stats are map reads.
+ *
+ * Every JobChangedEvent turns into +1/-1 deltas. The deltas of a transaction are summed and
+ * written to job_counters just before it commits (in key order, so concurrent writers never
+ * deadlock), which keeps the table exact across nodes; this node's maps take them after commit.
+ * The maps are reloaded from the table every refresh-ms to pick up other nodes' changes, and the
+ * table is rebuilt from a full count every recount-ms to repair anything that bypassed the events.
+ */
+@Slf4j
+@Component
+public class ActiveJobCounters {
+
+    private static final String ADD_SQL = """
+            INSERT INTO job_counters (scope, ref_id, active_count, updated_at)
+            VALUES (?, ?, greatest(?, 0), now())
+            ON CONFLICT (scope, ref_id)
+            DO UPDATE SET active_count = greatest(job_counters.active_count + ?, 0), updated_at = now()
+            """;
+
+    private static final String LOAD_SQL = "SELECT scope, ref_id, active_count FROM job_counters";
+
+    // Waits for in-flight counter updates and holds new ones back until the recount commits
+    private static final String LOCK_SQL = """
+            SELECT count(*) FROM (SELECT 1 FROM job_counters ORDER BY scope, ref_id FOR UPDATE) locked
+            """;
+
+    private static final String RECOUNT_SQL = """
+            INSERT INTO job_counters (scope, ref_id, active_count, updated_at)
+            SELECT 'CATEGORY', c.id, count(j.id), now()
+            FROM job_categories c LEFT JOIN jobs j ON j.category_id = c.id AND j.status = 'ACTIVE'
+            GROUP BY c.id
+            UNION ALL
+            SELECT 'COMPANY', c.id, count(j.id), now()
+            FROM companies c LEFT JOIN jobs j ON j.company_id = c.id AND j.status = 'ACTIVE'
+            GROUP BY c.id
+            ON CONFLICT (scope, ref_id)
+            DO UPDATE SET active_count = EXCLUDED.active_count, updated_at = now()
+            WHERE job_counters.active_count <> EXCLUDED.active_count
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM job_counters
+            WHERE (scope = 'CATEGORY' AND ref_id NOT IN (SELECT id FROM job_categories))
+               OR (scope = 'COMPANY' AND ref_id NOT IN (SELECT id FROM companies))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<CompanyCountListener> companyCountListeners;
+
+    private final Map<Long, Long> categoryCounts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> companyCounts = new ConcurrentHashMap<>();
+
+    public ActiveJobCounters(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             List<CompanyCountListener> companyCountListeners) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.companyCountListeners = companyCountListeners;
+    }
+
+    public Map<Long, Long> getCategoryCounts() {
+        return Collections.unmodifiableMap(categoryCounts);
+    }
+
+    public Map<Long, Long> getCompanyCounts() {
+        return Collections.unmodifiableMap(companyCounts);
+    }
+
+    /**
+     * Runs inside the publishing transaction so the counter rows commit with the job change.
+     */
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        Map<Key, Long> deltas = new HashMap<>();
+        Job job = event.getJob();
+        if (event.wasActive()) {
+            add(deltas, Scope.CATEGORY, event.getPreviousCategoryId(), -1);
+            add(deltas, Scope.COMPANY, event.getPreviousCompanyId(), -1);
+        }
+        if (event.isActive()) {
+            add(deltas, Scope.CATEGORY, job.getCategoryId(), 1);
+            add(deltas, Scope.COMPANY, job.getCompanyId(), 1);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+            if (pending == null) {
+                pending = new PendingDeltas();
+                TransactionSynchronizationManager.bindResource(this, pending);
+                TransactionSynchronizationManager.registerSynchronization(pending);
+            }
+            for (Map.Entry<Key, Long> entry : deltas.entrySet()) {
+                pending.deltas.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+        } else {
+            write(deltas);
+            applyLocally(deltas);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            Integer rows = jdbcTemplate.queryForObject("SELECT count(*) FROM job_counters", Integer.class);
+            if (rows == null || rows == 0) {
+                recount();
+            } else {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Could not load job counters: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.counters.refresh-ms:60000}",
+            initialDelayString = "${app.jobs.counters.refresh-ms:60000}")
+    public void reload() {
+        Map<Long, Long> categories = new HashMap<>();
+        Map<Long, Long> companies = new HashMap<>();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            Map<Long, Long> target = Scope.CATEGORY.name().equals(rs.getString(1)) ? categories : companies;
+            target.put(rs.getLong(2), rs.getLong(3));
+        });
+        replace(categoryCounts, categories);
+        for (Long companyId : replace(companyCounts, companies)) {
+            notifyCompanyCount(companyId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.counters.recount-ms:3600000}",
+            initialDelayString = "${app.jobs.counters.recount-ms:3600000}")
+    public void recount() {
+        try {
+            Integer corrected = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForObject(LOCK_SQL, Long.class);
+                jdbcTemplate.update(PURGE_SQL);
+                return jdbcTemplate.update(RECOUNT_SQL);
+            });
+            if (corrected != null && corrected > 0) {
+                log.info("Job counter recount corrected {} counters", corrected);
+            }
+            reload();
+        } catch (Exception e) {
+            log.warn("Job counter recount failed: {}", e.getMessage());
+        }
+    }
+
+    private void write(Map<Key, Long> deltas) {
+        // TreeMap gives every writer the same lock order
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((key, delta) ->
+                args.add(new Object[]{key.scope().name(), key.refId(), delta, delta}));
+        jdbcTemplate.batchUpdate(ADD_SQL, args);
+    }
+
+    private void applyLocally(Map<Key, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            Map<Long, Long> target = key.scope() == Scope.CATEGORY ? categoryCounts : companyCounts;
+            target.merge(key.refId(), delta, (current, d) -> Math.max(0, current + d));
+            if (key.scope() == Scope.COMPANY) {
+                notifyCompanyCount(key.refId());
+            }
+        });
+    }
+
+    private void notifyCompanyCount(Long companyId) {
+        long activeJobs = companyCounts.getOrDefault(companyId, 0L);
+        for (CompanyCountListener listener : companyCountListeners) {
+            listener.companyCountChanged(companyId, activeJobs);
+        }
+    }
+
+    private static void add(Map<Key, Long> deltas, Scope scope, Long refId, long delta) {
+        if (refId != null) {
+            deltas.merge(new Key(scope, refId), delta, Long::sum);
+        }
+    }
+
+    /**
+     * @return the keys whose value changed
+     */
+    private static List<Long> replace(Map<Long, Long> target, Map<Long, Long> loaded) {
+        List<Long> changed = new ArrayList<>();
+        for (Long key : target.keySet()) {
+            if (!loaded.containsKey(key)) {
+                target.remove(key);
+                changed.add(key);
+            }
+        }
+        loaded.forEach((key, value) -> {
+            if (!value.equals(target.put(key, value))) {
+                changed.add(key);
+            }
+        });
+        return changed;
+    }
+
+    private record Key(Scope scope, Long refId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byScope = scope.name().compareTo(other.scope.name());
+            return byScope != 0 ? byScope : refId.compareTo(other.refId);
+        }
+    }
+
+    private class PendingDeltas implements TransactionSynchronization {
+        private final Map<Key, Long> deltas = new HashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltas.values().removeIf(delta -> delta == 0);
+            if (!deltas.isEmpty()) {
+                write(deltas);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            applyLocally(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ActiveJobCounters.this);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobnest.backend.service.job.counter;
+
+/**
+ * Told about every change of a company's active job count on this node, after it is applied.
+ */
+public interface CompanyCountListener {
+
+    void companyCountChanged(Long companyId, long activeJobs);
+}
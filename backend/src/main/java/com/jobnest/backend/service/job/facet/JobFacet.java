@@ -0,0 +1,83 @@
+package com.jobnest.backend.service.job.facet;
+
+import com.jobnest.backend.entities.job.Job;
+
+/**
+ * Filterable dimensions of the job listing. Each job has at most one value per facet.
+ */
+public enum JobFacet {
+    CATEGORY("category") {
+        @Override
+        public String valueOf(Job job) {
+            return job.getCategoryId() != null ? job.getCategoryId().toString() : null;
+        }
+    },
+    TYPE("type") {
+        @Override
+        public String valueOf(Job job) {
+            return job.getType() != null ? job.getType().name() : null;
+        }
+    },
+    LOCATION("location") {
+        @Override
+        public String valueOf(Job job) {
+            return job.getLocation() != null && !job.getLocation().isBlank() ? job.getLocation().trim() : null;
+        }
+    },
+    SALARY_BAND("salaryBand") {
+        @Override
+        public String valueOf(Job job) {
+            return SalaryBand.of(job.getMinSalary(), job.getMaxSalary()).name();
+        }
+    },
+    EXPERIENCE_LEVEL("experienceLevel") {
+        @Override
+        public String valueOf(Job job) {
+            return job.getExperienceLevel() != null && !job.getExperienceLevel().isBlank()
+                    ? job.getExperienceLevel().trim()
+                    : null;
+        }
+    },
+    URGENT("urgent") {
+        @Override
+        public String valueOf(Job job) {
+            return Boolean.TRUE.equals(job.getIsUrgent()) ? "true" : "false";
+        }
+    };
+
+    private final String key;
+
+    JobFacet(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public abstract String valueOf(Job job);
+
+    /**
+     * Salary bands matching the ranges offered by the job filters on the frontend.
+     */
+    public enum SalaryBand {
+        NEGOTIABLE, UNDER_40K, FROM_40K_TO_55K, FROM_55K_TO_85K, FROM_85K_TO_115K,
+        FROM_115K_TO_145K, FROM_145K_TO_175K, OVER_175K;
+
+        public static SalaryBand of(Integer minSalary, Integer maxSalary) {
+            if (minSalary == null && maxSalary == null) {
+                return NEGOTIABLE;
+            }
+            double salary = minSalary != null && maxSalary != null
+                    ? (minSalary + maxSalary) / 2.0
+                    : (minSalary != null ? minSalary : maxSalary);
+            if (salary < 40_000) return UNDER_40K;
+            if (salary < 55_000) return FROM_40K_TO_55K;
+            if (salary < 85_000) return FROM_55K_TO_85K;
+            if (salary < 115_000) return FROM_85K_TO_115K;
+            if (salary < 145_000) return FROM_115K_TO_145K;
+            if (salary < 175_000) return FROM_145K_TO_175K;
+            return OVER_175K;
+        }
+    }
+}
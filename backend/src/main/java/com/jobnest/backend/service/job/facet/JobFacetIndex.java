@@ -0,0 +1,329 @@
+package com.jobnest.backend.service.job.facet;
+
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.repository.job.JobFeedSort;
+import com.jobnest.backend.repository.job.JobRepository;
+import com.jobnest.backend.service.job.JobChangedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet bitmaps over ACTIVE jobs.
+ *
+ * Each job keeps a stable ordinal, and every (facet, value) pair owns a RoaringBitmap of
+ * the ordinals currently carrying that value. A filtered listing is an OR within each
+ * facet and an AND across facets. The count for a facet value is its bitmap AND-ed with
+ * every other facet's filter, so a selected value does not zero out its siblings.
+ *
+ * Ordinals follow index order (id order at startup, then activation order), so walking a
+ * result bitmap backwards yields newest postings first. A job that leaves the ACTIVE state
+ * gives up its ordinal; once freed ordinals outnumber live ones, the live ones are
+ * renumbered densely in the same order.
+ *
+ * Changes committed while the startup build runs are buffered and replayed after it, as in
+ * JobSearchIndex.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobFacetIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+    private long[] jobIdByOrdinal = new long[1024];
+    private String[][] valuesByOrdinal = new String[1024][];
+    private int nextOrdinal;
+
+    private volatile boolean ready;
+
+    private final RoaringBitmap active = new RoaringBitmap();
+    private final EnumMap<JobFacet, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(JobFacet.class);
+
+    // Guarded by pendingLock; non-null only while the startup build runs
+    private final Object pendingLock = new Object();
+    private List<JobChangedEvent> pendingChanges = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        long started = System.currentTimeMillis();
+        Long lastId = null;
+        while (true) {
+            List<Job> batch = jobRepository.findKeysetPage(
+                    Job.JobStatus.ACTIVE, JobFeedSort.ID, true, null, lastId, BUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(this::update);
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        int replayed = replayPendingChanges();
+        ready = true;
+        log.info("Job facet index built: {} active jobs, {} replayed changes in {} ms",
+                activeCount(), replayed, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (pendingLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+                return;
+            }
+        }
+        update(event.getJob());
+    }
+
+    private int replayPendingChanges() {
+        int replayed = 0;
+        while (true) {
+            List<JobChangedEvent> changes;
+            synchronized (pendingLock) {
+                if (pendingChanges.isEmpty()) {
+                    pendingChanges = null;
+                    return replayed;
+                }
+                changes = pendingChanges;
+                pendingChanges = new ArrayList<>();
+            }
+            changes.forEach(change -> update(change.getJob()));
+            replayed += changes.size();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Moves the job's bits to its current values, or clears them if it is no longer ACTIVE.
+     */
+    public void update(Job job) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinalByJobId.get(job.getId());
+            boolean isActive = job.getStatus() == Job.JobStatus.ACTIVE;
+            if (existing == null && !isActive) {
+                return;
+            }
+
+            int ordinal = existing != null ? existing : assignOrdinal(job.getId());
+            clearBits(ordinal);
+            if (!isActive) {
+                ordinalByJobId.remove(job.getId());
+                int freed = nextOrdinal - active.getCardinality();
+                if (freed > BUILD_BATCH_SIZE && freed > active.getCardinality()) {
+                    compactLocked();
+                }
+                return;
+            }
+
+            String[] values = new String[JobFacet.values().length];
+            for (JobFacet facet : JobFacet.values()) {
+                String value = facet.valueOf(job);
+                values[facet.ordinal()] = value;
+                if (value != null) {
+                    bitmaps.computeIfAbsent(facet, f -> new HashMap<>())
+                            .computeIfAbsent(value, v -> new RoaringBitmap())
+                            .add(ordinal);
+                }
+            }
+            valuesByOrdinal[ordinal] = values;
+            active.add(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param filters      selected values per facet; facets without a selection are not filtered
+     * @param restrictTo   optional job ids the result must be within (e.g. keyword matches)
+     */
+    public FacetResult query(Map<JobFacet, Set<String>> filters, Collection<Long> restrictTo, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = active.clone();
+            if (restrictTo != null) {
+                RoaringBitmap allowed = new RoaringBitmap();
+                for (Long jobId : restrictTo) {
+                    Integer ordinal = ordinalByJobId.get(jobId);
+                    if (ordinal != null) {
+                        allowed.add(ordinal);
+                    }
+                }
+                base.and(allowed);
+            }
+
+            EnumMap<JobFacet, RoaringBitmap> selections = new EnumMap<>(JobFacet.class);
+            for (Map.Entry<JobFacet, Set<String>> entry : filters.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                    continue;
+                }
+                Map<String, RoaringBitmap> byValue = bitmaps.getOrDefault(entry.getKey(), Map.of());
+                RoaringBitmap selection = new RoaringBitmap();
+                for (String value : entry.getValue()) {
+                    RoaringBitmap bitmap = byValue.get(value);
+                    if (bitmap != null) {
+                        selection.or(bitmap);
+                    }
+                }
+                selections.put(entry.getKey(), selection);
+            }
+
+            RoaringBitmap result = base.clone();
+            selections.values().forEach(result::and);
+
+            Map<JobFacet, Map<String, Long>> counts = new EnumMap<>(JobFacet.class);
+            for (JobFacet facet : JobFacet.values()) {
+                RoaringBitmap others = base.clone();
+                selections.forEach((selected, selection) -> {
+                    if (selected != facet) {
+                        others.and(selection);
+                    }
+                });
+                Map<String, Long> facetCounts = new LinkedHashMap<>();
+                bitmaps.getOrDefault(facet, Map.of()).forEach((value, bitmap) -> {
+                    long count = RoaringBitmap.andCardinality(bitmap, others);
+                    if (count > 0) {
+                        facetCounts.put(value, count);
+                    }
+                });
+                counts.put(facet, facetCounts);
+            }
+
+            List<Long> jobIds = new ArrayList<>(limit);
+            IntIterator newestFirst = result.getReverseIntIterator();
+            int skipped = 0;
+            while (newestFirst.hasNext() && jobIds.size() < limit) {
+                int ordinal = newestFirst.next();
+                if (skipped++ >= offset) {
+                    jobIds.add(jobIdByOrdinal[ordinal]);
+                }
+            }
+
+            return new FacetResult(jobIds, result.getLongCardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long activeCount() {
+        lock.readLock().lock();
+        try {
+            return active.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int assignOrdinal(Long jobId) {
+        int ordinal = nextOrdinal++;
+        if (ordinal >= jobIdByOrdinal.length) {
+            int capacity = jobIdByOrdinal.length * 2;
+            jobIdByOrdinal = Arrays.copyOf(jobIdByOrdinal, capacity);
+            valuesByOrdinal = Arrays.copyOf(valuesByOrdinal, capacity);
+        }
+        jobIdByOrdinal[ordinal] = jobId;
+        ordinalByJobId.put(jobId, ordinal);
+        return ordinal;
+    }
+
+    /** Renumbers live ordinals densely, keeping their order, and drops the freed ones. */
+    private void compactLocked() {
+        int[] remap = new int[nextOrdinal];
+        Arrays.fill(remap, -1);
+        int next = 0;
+        IntIterator live = active.getIntIterator();
+        while (live.hasNext()) {
+            remap[live.next()] = next++;
+        }
+
+        long[] compactIds = new long[Math.max(1024, next)];
+        String[][] compactValues = new String[compactIds.length][];
+        ordinalByJobId.clear();
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            int target = remap[ordinal];
+            if (target >= 0) {
+                compactIds[target] = jobIdByOrdinal[ordinal];
+                compactValues[target] = valuesByOrdinal[ordinal];
+                ordinalByJobId.put(jobIdByOrdinal[ordinal], target);
+            }
+        }
+        jobIdByOrdinal = compactIds;
+        valuesByOrdinal = compactValues;
+
+        for (Map<String, RoaringBitmap> byValue : bitmaps.values()) {
+            byValue.replaceAll((value, bitmap) -> remap(bitmap, remap));
+        }
+        RoaringBitmap remapped = remap(active, remap);
+        active.clear();
+        active.or(remapped);
+        nextOrdinal = next;
+    }
+
+    private static RoaringBitmap remap(RoaringBitmap bitmap, int[] remap) {
+        RoaringBitmap result = new RoaringBitmap();
+        IntIterator ordinals = bitmap.getIntIterator();
+        while (ordinals.hasNext()) {
+            result.add(remap[ordinals.next()]);
+        }
+        return result;
+    }
+
+    private void clearBits(int ordinal) {
+        String[] previous = valuesByOrdinal[ordinal];
+        if (previous == null) {
+            return;
+        }
+        for (JobFacet facet : JobFacet.values()) {
+            String value = previous[facet.ordinal()];
+            if (value == null) {
+                continue;
+            }
+            Map<String, RoaringBitmap> byValue = bitmaps.get(facet);
+            RoaringBitmap bitmap = byValue.get(value);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                byValue.remove(value);
+            }
+        }
+        valuesByOrdinal[ordinal] = null;
+        active.remove(ordinal);
+    }
+
+    @Getter
+    public static class FacetResult {
+        private final List<Long> jobIds;
+        private final long total;
+        private final Map<JobFacet, Map<String, Long>> counts;
+
+        public FacetResult(List<Long> jobIds, long total, Map<JobFacet, Map<String, Long>> counts) {
+            this.jobIds = jobIds;
+            this.total = total;
+            this.counts = counts;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package com.jobnest.backend.service.job.search;
+
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.repository.job.JobFeedSort;
+import com.jobnest.backend.repository.job.JobRepository;
+import com.jobnest.backend.service.job.JobChangedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over title, skills and description of ACTIVE jobs.
+ *
+ * Every job gets an internal ordinal; postings are ordinal-sorted int arrays, so
+ * multi-term queries are plain sorted-array intersections. Results are ranked with BM25.
+ * The last query term also matches as a prefix, which keeps search-as-you-type cheap.
+ *
+ * Edits never rewrite postings in place: the old ordinal is marked dead and the job is
+ * re-added under a new one. Dead entries are skipped at query time and dropped when
+ * they outnumber live ones.
+ *
+ * Changes committed while the startup build runs are held back and replayed after it, so
+ * a batch read before a job was hidden cannot re-add it after its removal was applied.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILLS_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+    private long[] jobIdByOrdinal = new long[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet live = new BitSet();
+    private int nextOrdinal;
+    private int liveCount;
+    private long liveTotalLength;
+
+    private volatile boolean ready;
+
+    // Guarded by pendingLock; non-null only while the startup build runs
+    private final Object pendingLock = new Object();
+    private List<JobChangedEvent> pendingChanges = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        long started = System.currentTimeMillis();
+        int indexed = 0;
+        Long lastId = null;
+        while (true) {
+            List<Job> batch = jobRepository.findKeysetPage(
+                    Job.JobStatus.ACTIVE, JobFeedSort.ID, true, null, lastId, BUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Job job : batch) {
+                index(job);
+            }
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        int replayed = replayPendingChanges();
+        ready = true;
+        log.info("Job search index built: {} active jobs, {} terms, {} replayed changes in {} ms",
+                indexed, termCount(), replayed, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (pendingLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    /** Applies buffered changes until none are left, then lets new ones through directly. */
+    private int replayPendingChanges() {
+        int replayed = 0;
+        while (true) {
+            List<JobChangedEvent> changes;
+            synchronized (pendingLock) {
+                if (pendingChanges.isEmpty()) {
+                    pendingChanges = null;
+                    return replayed;
+                }
+                changes = pendingChanges;
+                pendingChanges = new ArrayList<>();
+            }
+            changes.forEach(this::apply);
+            replayed += changes.size();
+        }
+    }
+
+    private void apply(JobChangedEvent event) {
+        if (event.isActive()) {
+            index(event.getJob());
+        } else {
+            remove(event.getJob().getId());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Job job) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, job.getTitle(), TITLE_WEIGHT);
+        addTerms(termFrequencies, job.getSkills(), SKILLS_WEIGHT);
+        addTerms(termFrequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+
+            int ordinal = nextOrdinal++;
+            ensureCapacity(ordinal + 1);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .add(ordinal, entry.getValue());
+                length += entry.getValue();
+            }
+            jobIdByOrdinal[ordinal] = job.getId();
+            docLengths[ordinal] = length;
+            ordinalByJobId.put(job.getId(), ordinal);
+            live.set(ordinal);
+            liveCount++;
+            liveTotalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked search. Every query term must match (AND); the last term may match as a prefix.
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = TextNormalizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Matches matches = match(terms);
+            if (matches == null || matches.size == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+
+            int wanted = offset + limit;
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, Math.min(wanted, matches.size)),
+                    (a, b) -> compareHits(matches, a, b));
+            for (int i = 0; i < matches.size; i++) {
+                if (top.size() < wanted) {
+                    top.add(i);
+                } else if (wanted > 0 && compareHits(matches, i, top.peek()) > 0) {
+                    top.poll();
+                    top.add(i);
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(top);
+            ranked.sort((a, b) -> compareHits(matches, b, a));
+            List<Long> jobIds = new ArrayList<>(limit);
+            for (int i = offset; i < ranked.size(); i++) {
+                jobIds.add(jobIdByOrdinal[matches.docs[ranked.get(i)]]);
+            }
+            return new SearchResult(jobIds, matches.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every job matching the query, unranked. Used to combine keywords with facet filters.
+     */
+    public List<Long> matchAll(String query) {
+        List<String> terms = TextNormalizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Matches matches = match(terms);
+            if (matches == null) {
+                return List.of();
+            }
+            List<Long> jobIds = new ArrayList<>(matches.size);
+            for (int i = 0; i < matches.size; i++) {
+                jobIds.add(jobIdByOrdinal[matches.docs[i]]);
+            }
+            return jobIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== QUERY EVALUATION ====================
+
+    private Matches match(List<String> terms) {
+        double avgDocLength = liveCount == 0 ? 1 : (double) liveTotalLength / liveCount;
+
+        List<Matches> clauses = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            boolean last = i == terms.size() - 1;
+            Matches clause = last && terms.get(i).length() >= MIN_PREFIX_LENGTH
+                    ? prefixClause(terms.get(i), avgDocLength)
+                    : termClause(postings.get(terms.get(i)), avgDocLength);
+            if (clause.size == 0) {
+                return null;
+            }
+            clauses.add(clause);
+        }
+
+        // Intersect the smallest clause first so the candidate set shrinks fastest
+        clauses.sort((a, b) -> Integer.compare(a.size, b.size));
+        Matches result = clauses.get(0);
+        for (int i = 1; i < clauses.size() && result.size > 0; i++) {
+            result = intersect(result, clauses.get(i));
+        }
+        return result;
+    }
+
+    private Matches termClause(Postings list, double avgDocLength) {
+        if (list == null) {
+            return Matches.EMPTY;
+        }
+        double idf = idf(list.size);
+        Matches clause = new Matches(list.size);
+        for (int i = 0; i < list.size; i++) {
+            int doc = list.docs[i];
+            if (live.get(doc)) {
+                clause.append(doc, bm25(idf, list.freqs[i], docLengths[doc], avgDocLength));
+            }
+        }
+        return clause;
+    }
+
+    private Matches prefixClause(String prefix, double avgDocLength) {
+        SortedMap<String, Postings> expansions = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (expansions.isEmpty()) {
+            return Matches.EMPTY;
+        }
+        Matches merged = null;
+        int expanded = 0;
+        // Exact match first, then the remaining expansions in term order
+        Postings exact = expansions.get(prefix);
+        if (exact != null) {
+            merged = termClause(exact, avgDocLength);
+            expanded++;
+        }
+        for (Map.Entry<String, Postings> entry : expansions.entrySet()) {
+            if (expanded >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            if (entry.getKey().equals(prefix)) {
+                continue;
+            }
+            Matches clause = termClause(entry.getValue(), avgDocLength);
+            merged = merged == null ? clause : union(merged, clause);
+            expanded++;
+        }
+        return merged == null ? Matches.EMPTY : merged;
+    }
+
+    private static Matches intersect(Matches a, Matches b) {
+        Matches result = new Matches(Math.min(a.size, b.size));
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            int docA = a.docs[i];
+            int docB = b.docs[j];
+            if (docA == docB) {
+                result.append(docA, a.scores[i] + b.scores[j]);
+                i++;
+                j++;
+            } else if (docA < docB) {
+                i = gallop(a.docs, i + 1, a.size, docB);
+            } else {
+                j = gallop(b.docs, j + 1, b.size, docA);
+            }
+        }
+        return result;
+    }
+
+    /** Union where a doc matching several expansions keeps its best score. */
+    private static Matches union(Matches a, Matches b) {
+        Matches result = new Matches(a.size + b.size);
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.docs[i] < b.docs[j])) {
+                result.append(a.docs[i], a.scores[i]);
+                i++;
+            } else if (i >= a.size || b.docs[j] < a.docs[i]) {
+                result.append(b.docs[j], b.scores[j]);
+                j++;
+            } else {
+                result.append(a.docs[i], Math.max(a.scores[i], b.scores[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** First index in [from, to) whose value is >= target. */
+    private static int gallop(int[] docs, int from, int to, int target) {
+        if (from >= to || docs[from] >= target) {
+            return from;
+        }
+        // docs[low] < target holds throughout; double the step until we overshoot
+        int low = from;
+        int step = 1;
+        int high = from + step;
+        while (high < to && docs[high] < target) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int index = Arrays.binarySearch(docs, low + 1, Math.min(high + 1, to), target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(double idf, int tf, int docLength, double avgDocLength) {
+        return idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * docLength / avgDocLength));
+    }
+
+    /** Higher score wins; on ties the newer posting (higher ordinal) wins. */
+    private static int compareHits(Matches matches, int a, int b) {
+        int byScore = Double.compare(matches.scores[a], matches.scores[b]);
+        return byScore != 0 ? byScore : Integer.compare(matches.docs[a], matches.docs[b]);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    private void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        Integer ordinal = ordinalByJobId.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        liveCount--;
+        liveTotalLength -= docLengths[ordinal];
+
+        int dead = nextOrdinal - liveCount;
+        if (dead > BUILD_BATCH_SIZE && dead > liveCount) {
+            compactLocked();
+        }
+    }
+
+    /** Drops dead ordinals from every postings list and renumbers live ones densely. */
+    private void compactLocked() {
+        int[] remap = new int[nextOrdinal];
+        int next = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            remap[ordinal] = live.get(ordinal) ? next++ : -1;
+        }
+
+        postings.values().removeIf(list -> {
+            list.retain(remap);
+            return list.size == 0;
+        });
+
+        long[] compactIds = new long[Math.max(1024, next)];
+        int[] compactLengths = new int[compactIds.length];
+        live.clear();
+        ordinalByJobId.clear();
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            int target = remap[ordinal];
+            if (target >= 0) {
+                compactIds[target] = jobIdByOrdinal[ordinal];
+                compactLengths[target] = docLengths[ordinal];
+                ordinalByJobId.put(jobIdByOrdinal[ordinal], target);
+                live.set(target);
+            }
+        }
+        jobIdByOrdinal = compactIds;
+        docLengths = compactLengths;
+        nextOrdinal = next;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > jobIdByOrdinal.length) {
+            int capacity = Math.max(size, jobIdByOrdinal.length * 2);
+            jobIdByOrdinal = Arrays.copyOf(jobIdByOrdinal, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    // ==================== DATA STRUCTURES ====================
+
+    @Getter
+    public static class SearchResult {
+        private final List<Long> jobIds;
+        private final long total;
+
+        public SearchResult(List<Long> jobIds, long total) {
+            this.jobIds = jobIds;
+            this.total = total;
+        }
+    }
+
+    /** Ordinal-sorted postings list with term frequencies. */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int target = remap[docs[i]];
+                if (target >= 0) {
+                    docs[kept] = target;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    /** Doc-sorted candidate list with accumulated scores. */
+    private static class Matches {
+        static final Matches EMPTY = new Matches(0);
+
+        final int[] docs;
+        final double[] scores;
+        int size;
+
+        Matches(int capacity) {
+            docs = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        void append(int doc, double score) {
+            docs[size] = doc;
+            scores[size] = score;
+            size++;
+        }
+    }
+}
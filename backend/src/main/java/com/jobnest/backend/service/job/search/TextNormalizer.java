@@ -0,0 +1,44 @@
+package com.jobnest.backend.service.job.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Lower-cases text, folds Vietnamese diacritics ("Lập trình viên" -> "lap trinh vien")
+ * and splits it into tokens. Used for both indexing and queries so they always agree.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private TextNormalizer() {
+    }
+
+    public static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT)
+                .replace('đ', 'd');
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = fold(HTML_TAG.matcher(text).replaceAll(" "));
+        for (String token : NON_WORD.split(folded)) {
+            if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,213 @@
+package com.jobnest.backend.service.job.view;
+
+import com.jobnest.backend.repository.SequenceIdAllocator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers job views in memory and writes them to job_views from a single background thread.
+ *
+ * Request threads only offer to a bounded queue; when it is full the view is dropped and
+ * counted rather than blocking the request. The writer drops repeat views of the same job
+ * by the same viewer (account, or IP for guests) inside the dedupe window, and flushes with
+ * a JDBC batch insert once flush-size views are pending or flush-interval-ms has passed. Ids come
+ * from job_views_seq in blocks, one round trip per flush.
+ * Every view is also added to the job's unique-viewer sketches.
+ */
+@Slf4j
+@Component
+public class JobViewBuffer {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO job_views (id, job_id, viewer_id, viewer_ip, viewed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final JobViewSketchStore jobViewSketchStore;
+    private final BlockingQueue<PendingView> queue;
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final long dedupeWindowMs;
+    private final int dedupeCapacity;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter dedupedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    // Only touched by the writer thread
+    private final Map<String, Long> lastSeen;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public JobViewBuffer(JdbcTemplate jdbcTemplate,
+                         SequenceIdAllocator sequenceIdAllocator,
+                         JobViewSketchStore jobViewSketchStore,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.jobs.views.queue-capacity:10000}") int queueCapacity,
+                         @Value("${app.jobs.views.flush-size:500}") int flushSize,
+                         @Value("${app.jobs.views.flush-interval-ms:1000}") long flushIntervalMs,
+                         @Value("${app.jobs.views.dedupe-window-ms:3600000}") long dedupeWindowMs,
+                         @Value("${app.jobs.views.dedupe-capacity:100000}") int dedupeCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceIdAllocator = sequenceIdAllocator;
+        this.jobViewSketchStore = jobViewSketchStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.dedupeWindowMs = dedupeWindowMs;
+        this.dedupeCapacity = dedupeCapacity;
+        this.lastSeen = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > JobViewBuffer.this.dedupeCapacity;
+            }
+        };
+
+        this.enqueuedCounter = meterRegistry.counter("jobnest.job_views.enqueued");
+        this.droppedCounter = meterRegistry.counter("jobnest.job_views.dropped");
+        this.dedupedCounter = meterRegistry.counter("jobnest.job_views.deduplicated");
+        this.writtenCounter = meterRegistry.counter("jobnest.job_views.written");
+        this.failedCounter = meterRegistry.counter("jobnest.job_views.failed");
+        meterRegistry.gauge("jobnest.job_views.queue_depth", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "job-view-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Never blocks. Returns false when the queue is full and the view was dropped.
+     */
+    public boolean record(Long jobId, Long viewerId, String viewerIp) {
+        if (jobId == null || (viewerId == null && viewerIp == null)) {
+            return false;
+        }
+        if (!queue.offer(new PendingView(jobId, viewerId, viewerIp, System.currentTimeMillis()))) {
+            droppedCounter.increment();
+            return false;
+        }
+        enqueuedCounter.increment();
+        return true;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Stops the writer, which writes out what is still queued before it exits.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Flushing from here as well would race the writer on lastSeen
+        if (writer.isAlive()) {
+            log.warn("Job view writer still flushing after 10 s; {} queued views may be lost", queue.size());
+        }
+    }
+
+    private void runWriter() {
+        List<PendingView> batch = new ArrayList<>(flushSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+        while (running) {
+            try {
+                long wait = deadline - System.currentTimeMillis();
+                PendingView view = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (view != null) {
+                    batch.add(view);
+                    queue.drainTo(batch, flushSize - batch.size());
+                }
+                if (batch.size() >= flushSize || System.currentTimeMillis() >= deadline) {
+                    flush(batch);
+                    batch.clear();
+                    deadline = System.currentTimeMillis() + flushIntervalMs;
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        // Clear the interrupt, or the final allocation and batch insert would fail on it
+        Thread.interrupted();
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+    private void flush(List<PendingView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(views.size());
+        for (PendingView view : views) {
+            String viewerKey = JobViewSketchStore.viewerKey(view.viewerId, view.viewerIp);
+            // Sketches are idempotent per viewer, so they see every view
+            jobViewSketchStore.add(view.jobId, viewerKey,
+                    new Timestamp(view.viewedAtMillis).toLocalDateTime().toLocalDate());
+
+            String key = view.jobId + ":" + viewerKey;
+            Long previous = lastSeen.get(key);
+            if (previous != null && view.viewedAtMillis - previous < dedupeWindowMs) {
+                dedupedCounter.increment();
+                continue;
+            }
+            lastSeen.put(key, view.viewedAtMillis);
+            rows.add(new Object[]{
+                    null,
+                    view.jobId,
+                    view.viewerId,
+                    view.viewerIp,
+                    new Timestamp(view.viewedAtMillis)
+            });
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> ids = sequenceIdAllocator.allocate("job_views_seq", rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i)[0] = ids.get(i);
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            writtenCounter.increment(rows.size());
+        } catch (Exception e) {
+            failedCounter.increment(rows.size());
+            log.warn("Failed to write {} job views: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    private record PendingView(Long jobId, Long viewerId, String viewerIp, long viewedAtMillis) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobnest.backend.service.job.view;
+
+import com.jobnest.backend.entities.job.JobViewRollup.Granularity;
+import com.jobnest.backend.repository.job.JobViewRepository;
+import com.jobnest.backend.repository.job.JobViewRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Aggregates raw job_views into hourly and daily job_view_rollups, then purges raw rows
+ * older than raw-retention-days in bounded batches.
+ *
+ * Each granularity resumes from its watermark in job_view_rollup_watermarks, recomputing the
+ * last bucket before it so late views are picked up, and only rolls up complete buckets. The
+ * watermark moves on even over ranges without views, so a quiet period cannot stall it. Raw rows are never purged past the latest
+ * daily bucket, so a daily total can always be recomputed from what is left.
+ */
+@Slf4j
+@Component
+public class JobViewRollupJob {
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO job_view_rollups (job_id, granularity, bucket_start, views, unique_viewers)
+            SELECT job_id, ?, date_trunc(?, viewed_at), count(*),
+                   count(DISTINCT coalesce('u:' || viewer_id, 'ip:' || viewer_ip))
+            FROM job_views
+            WHERE viewed_at >= ? AND viewed_at < ?
+            GROUP BY 1, 3
+            ON CONFLICT (job_id, granularity, bucket_start)
+            DO UPDATE SET views = EXCLUDED.views, unique_viewers = EXCLUDED.unique_viewers
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM job_views
+            WHERE id IN (SELECT id FROM job_views WHERE viewed_at < ? LIMIT ?)
+            """;
+
+    private static final String WATERMARK_SQL =
+            "SELECT rolled_up_to FROM job_view_rollup_watermarks WHERE granularity = ?";
+
+    private static final String SAVE_WATERMARK_SQL = """
+            INSERT INTO job_view_rollup_watermarks (granularity, rolled_up_to)
+            VALUES (?, ?)
+            ON CONFLICT (granularity) DO UPDATE SET rolled_up_to = EXCLUDED.rolled_up_to
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobViewRepository jobViewRepository;
+    private final JobViewRollupRepository jobViewRollupRepository;
+    private final int rawRetentionDays;
+    private final int purgeBatchSize;
+    private final int maxPurgeBatches;
+    private final int maxChunks;
+
+    // Start of the latest daily bucket; raw rows from here on are not final in the rollups yet
+    private volatile LocalDateTime dailyWatermark;
+
+    public JobViewRollupJob(JdbcTemplate jdbcTemplate,
+                            JobViewRepository jobViewRepository,
+                            JobViewRollupRepository jobViewRollupRepository,
+                            @Value("${app.jobs.views.raw-retention-days:90}") int rawRetentionDays,
+                            @Value("${app.jobs.views.purge-batch-size:5000}") int purgeBatchSize,
+                            @Value("${app.jobs.views.purge-max-batches:20}") int maxPurgeBatches,
+                            @Value("${app.jobs.views.rollup-max-chunks:30}") int maxChunks) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobViewRepository = jobViewRepository;
+        this.jobViewRollupRepository = jobViewRollupRepository;
+        this.rawRetentionDays = rawRetentionDays;
+        this.purgeBatchSize = purgeBatchSize;
+        this.maxPurgeBatches = maxPurgeBatches;
+        this.maxChunks = maxChunks;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.views.rollup-interval-ms:300000}",
+            initialDelayString = "${app.jobs.views.rollup-initial-delay-ms:60000}")
+    public void run() {
+        try {
+            rollUp(Granularity.HOUR, ChronoUnit.HOURS, ChronoUnit.DAYS);
+            rollUp(Granularity.DAY, ChronoUnit.DAYS, ChronoUnit.WEEKS);
+            purge();
+        } catch (Exception e) {
+            log.warn("Job view rollup failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Views of a job over its lifetime: finished daily rollups plus raw rows since the watermark.
+     */
+    public long totalViews(Long jobId) {
+        LocalDateTime watermark = dailyWatermark();
+        if (watermark == null) {
+            return jobViewRepository.countByJobId(jobId);
+        }
+        return jobViewRollupRepository.sumViewsBefore(jobId, Granularity.DAY, watermark)
+                + jobViewRepository.countByJobIdAndViewedAtGreaterThanEqual(jobId, watermark);
+    }
+
+    private void rollUp(Granularity granularity, ChronoUnit unit, ChronoUnit chunkUnit) {
+        LocalDateTime end = LocalDateTime.now().truncatedTo(unit);
+        LocalDateTime watermark = findWatermark(granularity);
+        LocalDateTime start = watermark != null ? watermark.minus(1, unit) : null;
+        if (start == null) {
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT min(viewed_at) FROM job_views", Timestamp.class);
+            if (oldest == null) {
+                return;
+            }
+            start = oldest.toLocalDateTime().truncatedTo(unit);
+        }
+
+        String field = unit == ChronoUnit.HOURS ? "hour" : "day";
+        int chunks = 0;
+        LocalDateTime latest = start;
+        // Bounded per run so a long backlog is worked off over several runs
+        while (start.isBefore(end) && chunks++ < maxChunks) {
+            LocalDateTime chunkEnd = start.plus(1, chunkUnit);
+            if (chunkEnd.isAfter(end)) {
+                chunkEnd = end;
+            }
+            jdbcTemplate.update(ROLLUP_SQL, granularity.name(), field,
+                    Timestamp.valueOf(start), Timestamp.valueOf(chunkEnd));
+            latest = chunkEnd.minus(1, unit);
+            start = chunkEnd;
+        }
+        jdbcTemplate.update(SAVE_WATERMARK_SQL, granularity.name(), Timestamp.valueOf(start));
+
+        if (granularity == Granularity.DAY) {
+            dailyWatermark = latest;
+        }
+    }
+
+    private void purge() {
+        LocalDateTime watermark = dailyWatermark();
+        if (watermark == null) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(rawRetentionDays);
+        if (cutoff.isAfter(watermark)) {
+            cutoff = watermark;
+        }
+
+        int deleted = 0;
+        for (int i = 0; i < maxPurgeBatches; i++) {
+            int rows = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff), purgeBatchSize);
+            deleted += rows;
+            if (rows < purgeBatchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Purged {} job views older than {}", deleted, cutoff);
+        }
+    }
+
+    private LocalDateTime dailyWatermark() {
+        if (dailyWatermark == null) {
+            LocalDateTime rolledUpTo = findWatermark(Granularity.DAY);
+            dailyWatermark = rolledUpTo != null ? rolledUpTo.minusDays(1) : null;
+        }
+        return dailyWatermark;
+    }
+
+    private LocalDateTime findWatermark(Granularity granularity) {
+        return jdbcTemplate.queryForList(WATERMARK_SQL, Timestamp.class, granularity.name()).stream()
+                .findFirst()
+                .map(Timestamp::toLocalDateTime)
+                .orElse(null);
+    }
+}
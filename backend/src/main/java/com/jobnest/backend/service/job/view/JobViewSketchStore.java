@@ -0,0 +1,387 @@
+package com.jobnest.backend.service.job.view;
+
+import com.jobnest.backend.entities.job.JobViewSketch;
+import com.jobnest.backend.exception.BadRequestException;
+import com.jobnest.backend.repository.job.JobViewSketchRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-job HyperLogLog sketches of unique viewers (viewer id, or IP for guests).
+ *
+ * Each job has an all-time sketch plus one sketch per day for the last retention-days days.
+ * Sketches are loaded lazily, updated in memory by the view writer, and merged into
+ * job_view_sketches every sketch-flush-ms: the stored rows are locked, merged register-wise
+ * with this node's sketches and written back, so nodes add to each other's viewers instead of
+ * overwriting them. The merged result is kept in memory, which also picks up the viewers other
+ * nodes have flushed. A multi-day count merges at most retention-days sketches, independent
+ * of how many views the job has had.
+ */
+@Slf4j
+@Component
+public class JobViewSketchStore {
+
+    static final LocalDate LIFETIME_BUCKET = LocalDate.EPOCH;
+
+    private static final int BACKFILL_JOBS_PER_WRITE = 500;
+
+    // Creates missing rows first, so concurrent flushes of a new bucket both end up merging
+    private static final String INSERT_EMPTY_SQL = """
+            INSERT INTO job_view_sketches (job_id, bucket_date, registers, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (job_id, bucket_date) DO NOTHING
+            """;
+
+    private static final String LOCK_SQL = """
+            SELECT s.job_id, s.bucket_date, s.registers
+            FROM job_view_sketches s
+            JOIN unnest(?::bigint[], ?::date[]) AS k (job_id, bucket_date) USING (job_id, bucket_date)
+            ORDER BY s.job_id, s.bucket_date
+            FOR UPDATE OF s
+            """;
+
+    private static final String UPDATE_SQL =
+            "UPDATE job_view_sketches SET registers = ?, updated_at = ? WHERE job_id = ? AND bucket_date = ?";
+
+    private final JobViewSketchRepository jobViewSketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final int retentionDays;
+    private final long idleEvictMs;
+
+    private final Map<Long, JobSketches> sketchesByJob = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyJobs = ConcurrentHashMap.newKeySet();
+
+    public JobViewSketchStore(JobViewSketchRepository jobViewSketchRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.jobs.views.sketch-retention-days:30}") int retentionDays,
+                              @Value("${app.jobs.views.sketch-idle-evict-ms:3600000}") long idleEvictMs) {
+        this.jobViewSketchRepository = jobViewSketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionManager = transactionManager;
+        this.retentionDays = retentionDays;
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    public void add(Long jobId, String viewerKey, LocalDate day) {
+        LocalDate oldest = oldestRetainedDay();
+        // Updated inside compute so the entry cannot be evicted between lookup and update
+        sketchesByJob.compute(jobId, (id, sketches) -> {
+            JobSketches target = sketches != null ? sketches : load(id);
+            if (target.add(viewerKey, day, oldest)) {
+                dirtyJobs.add(id);
+            }
+            return target;
+        });
+    }
+
+    public long uniqueViewers(Long jobId) {
+        return sketches(jobId).estimateLifetime();
+    }
+
+    /**
+     * Unique viewers over the last {@code days} days including today.
+     */
+    public long uniqueViewers(Long jobId, int days) {
+        if (days < 1 || days > retentionDays) {
+            throw new BadRequestException("days must be between 1 and " + retentionDays);
+        }
+        return sketches(jobId).estimateSince(LocalDate.now().minusDays(days - 1L));
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.views.sketch-flush-ms:60000}")
+    public void persist() {
+        LocalDate oldest = oldestRetainedDay();
+        // Sorted so concurrent flushes lock rows in the same order
+        TreeMap<SketchKey, HyperLogLog> pending = new TreeMap<>();
+        for (Long jobId : new ArrayList<>(dirtyJobs)) {
+            dirtyJobs.remove(jobId);
+            JobSketches sketches = sketchesByJob.get(jobId);
+            if (sketches == null) {
+                continue;
+            }
+            sketches.drainDirty(oldest).forEach((bucket, sketch) -> pending.put(new SketchKey(jobId, bucket), sketch));
+        }
+
+        if (!pending.isEmpty()) {
+            try {
+                keepMerged(transactionTemplate.execute(status -> mergeIntoTable(pending)));
+            } catch (Exception e) {
+                log.warn("Failed to persist {} job view sketches: {}", pending.size(), e.getMessage());
+                pending.keySet().forEach(key -> {
+                    JobSketches sketches = sketchesByJob.get(key.jobId());
+                    if (sketches != null) {
+                        sketches.markDirty(Set.of(key.bucket()));
+                        dirtyJobs.add(key.jobId());
+                    }
+                });
+            }
+        }
+
+        long idleBefore = System.currentTimeMillis() - idleEvictMs;
+        for (Long jobId : new ArrayList<>(sketchesByJob.keySet())) {
+            sketchesByJob.computeIfPresent(jobId, (id, sketches) ->
+                    !dirtyJobs.contains(id) && sketches.evictIfIdle(idleBefore) ? null : sketches);
+        }
+    }
+
+    private Map<SketchKey, HyperLogLog> mergeIntoTable(TreeMap<SketchKey, HyperLogLog> pending) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>(pending.size());
+        Long[] jobIds = new Long[pending.size()];
+        Date[] buckets = new Date[pending.size()];
+        int i = 0;
+        for (SketchKey key : pending.keySet()) {
+            inserts.add(new Object[]{key.jobId(), Date.valueOf(key.bucket()), new byte[0], now});
+            jobIds[i] = key.jobId();
+            buckets[i++] = Date.valueOf(key.bucket());
+        }
+        jdbcTemplate.batchUpdate(INSERT_EMPTY_SQL, inserts);
+
+        Map<SketchKey, HyperLogLog> merged = new HashMap<>(pending);
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(LOCK_SQL);
+                    statement.setArray(1, connection.createArrayOf("bigint", jobIds));
+                    statement.setArray(2, connection.createArrayOf("date", buckets));
+                    return statement;
+                },
+                resultSet -> {
+                    SketchKey key = new SketchKey(resultSet.getLong(1), resultSet.getDate(2).toLocalDate());
+                    HyperLogLog sketch = merged.get(key);
+                    if (sketch != null) {
+                        sketch.merge(HyperLogLog.fromBytes(resultSet.getBytes(3)));
+                    }
+                });
+
+        List<Object[]> updates = new ArrayList<>(merged.size());
+        new TreeMap<>(merged).forEach((key, sketch) ->
+                updates.add(new Object[]{sketch.toBytes(), now, key.jobId(), Date.valueOf(key.bucket())}));
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        return merged;
+    }
+
+    private void keepMerged(Map<SketchKey, HyperLogLog> merged) {
+        merged.forEach((key, sketch) -> {
+            JobSketches sketches = sketchesByJob.get(key.jobId());
+            if (sketches != null) {
+                sketches.mergeStored(key.bucket(), sketch);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * Seeds the sketch table from raw job_views the first time it is deployed.
+     *
+     * The scan streams in job order inside a read-only transaction (the driver only honours the
+     * fetch size outside autocommit). Every BACKFILL_JOBS_PER_WRITE jobs the sketches built so
+     * far are merged into the table in their own transaction and dropped, so memory stays
+     * bounded by one batch rather than the whole table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (jobViewSketchRepository.count() > 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        LocalDate oldest = oldestRetainedDay();
+
+        TransactionTemplate scan = new TransactionTemplate(transactionManager);
+        scan.setReadOnly(true);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Map<Long, JobSketches> batch = new TreeMap<>();
+        long[] rows = {0};
+        try {
+            scan.executeWithoutResult(status -> jdbcTemplate.query(
+                    connection -> {
+                        var statement = connection.prepareStatement(
+                                "SELECT job_id, viewer_id, viewer_ip, viewed_at FROM job_views ORDER BY job_id");
+                        statement.setFetchSize(5000);
+                        return statement;
+                    },
+                    resultSet -> {
+                        Long jobId = resultSet.getLong("job_id");
+                        // Only cut at a job boundary, so each job is written once
+                        if (batch.size() >= BACKFILL_JOBS_PER_WRITE && !batch.containsKey(jobId)) {
+                            writeBackfill(batch, oldest, write);
+                        }
+                        long viewerId = resultSet.getLong("viewer_id");
+                        String viewerKey = resultSet.wasNull()
+                                ? viewerKey(null, resultSet.getString("viewer_ip"))
+                                : viewerKey(viewerId, null);
+                        Timestamp viewedAt = resultSet.getTimestamp("viewed_at");
+                        LocalDate day = viewedAt != null ? viewedAt.toLocalDateTime().toLocalDate() : LIFETIME_BUCKET;
+                        batch.computeIfAbsent(jobId, id -> new JobSketches()).add(viewerKey, day, oldest);
+                        rows[0]++;
+                    }));
+            writeBackfill(batch, oldest, write);
+        } catch (Exception e) {
+            // The table is no longer empty, so this will not be retried on the next start
+            log.warn("Job view sketch backfill stopped after {} views: {}", rows[0], e.getMessage());
+            return;
+        }
+        if (rows[0] > 0) {
+            log.info("Backfilled job view sketches from {} views in {} ms",
+                    rows[0], System.currentTimeMillis() - started);
+        }
+    }
+
+    private void writeBackfill(Map<Long, JobSketches> batch, LocalDate oldest, TransactionTemplate write) {
+        TreeMap<SketchKey, HyperLogLog> pending = new TreeMap<>();
+        batch.forEach((jobId, sketches) ->
+                sketches.drainDirty(oldest).forEach((bucket, sketch) -> pending.put(new SketchKey(jobId, bucket), sketch)));
+        batch.clear();
+        if (!pending.isEmpty()) {
+            // Jobs already cached from live views pick up the backfilled viewers too
+            keepMerged(write.execute(status -> mergeIntoTable(pending)));
+        }
+    }
+
+    static String viewerKey(Long viewerId, String viewerIp) {
+        return viewerId != null ? "u:" + viewerId : "ip:" + viewerIp;
+    }
+
+    private LocalDate oldestRetainedDay() {
+        return LocalDate.now().minusDays(retentionDays - 1L);
+    }
+
+    private JobSketches sketches(Long jobId) {
+        return sketchesByJob.computeIfAbsent(jobId, this::load);
+    }
+
+    private JobSketches load(Long jobId) {
+        List<LocalDate> buckets = new ArrayList<>(retentionDays + 1);
+        buckets.add(LIFETIME_BUCKET);
+        LocalDate day = LocalDate.now();
+        for (int i = 0; i < retentionDays; i++) {
+            buckets.add(day.minusDays(i));
+        }
+
+        JobSketches sketches = new JobSketches();
+        for (JobViewSketch row : jobViewSketchRepository.findByIdJobIdAndIdBucketDateIn(jobId, buckets)) {
+            sketches.put(row.getId().getBucketDate(), HyperLogLog.fromBytes(row.getRegisters()));
+        }
+        return sketches;
+    }
+
+    private record SketchKey(Long jobId, LocalDate bucket) implements Comparable<SketchKey> {
+        @Override
+        public int compareTo(SketchKey other) {
+            int byJob = jobId.compareTo(other.jobId);
+            return byJob != 0 ? byJob : bucket.compareTo(other.bucket);
+        }
+    }
+
+    private static class JobSketches {
+        private HyperLogLog lifetime = new HyperLogLog();
+        private final Map<LocalDate, HyperLogLog> daily = new HashMap<>();
+        private final Set<LocalDate> dirty = new HashSet<>();
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        synchronized void put(LocalDate bucket, HyperLogLog sketch) {
+            if (LIFETIME_BUCKET.equals(bucket)) {
+                lifetime = sketch;
+            } else {
+                daily.put(bucket, sketch);
+            }
+        }
+
+        synchronized boolean add(String viewerKey, LocalDate day, LocalDate oldest) {
+            lastAccess = System.currentTimeMillis();
+            boolean changed = false;
+            if (lifetime.add(viewerKey)) {
+                dirty.add(LIFETIME_BUCKET);
+                changed = true;
+            }
+            if (!day.isBefore(oldest) && daily.computeIfAbsent(day, d -> new HyperLogLog()).add(viewerKey)) {
+                dirty.add(day);
+                changed = true;
+            }
+            return changed;
+        }
+
+        synchronized long estimateLifetime() {
+            lastAccess = System.currentTimeMillis();
+            return lifetime.estimate();
+        }
+
+        synchronized long estimateSince(LocalDate since) {
+            lastAccess = System.currentTimeMillis();
+            HyperLogLog merged = new HyperLogLog();
+            daily.forEach((day, sketch) -> {
+                if (!day.isBefore(since)) {
+                    merged.merge(sketch);
+                }
+            });
+            return merged.estimate();
+        }
+
+        synchronized Map<LocalDate, HyperLogLog> drainDirty(LocalDate oldest) {
+            daily.keySet().removeIf(day -> day.isBefore(oldest));
+            Map<LocalDate, HyperLogLog> snapshot = new HashMap<>();
+            for (LocalDate bucket : dirty) {
+                HyperLogLog sketch = LIFETIME_BUCKET.equals(bucket) ? lifetime : daily.get(bucket);
+                if (sketch != null) {
+                    snapshot.put(bucket, sketch.copy());
+                }
+            }
+            dirty.clear();
+            return snapshot;
+        }
+
+        /**
+         * Adds what the table holds for a bucket; views added since the flush are kept.
+         */
+        synchronized void mergeStored(LocalDate bucket, HyperLogLog stored) {
+            HyperLogLog sketch = LIFETIME_BUCKET.equals(bucket) ? lifetime : daily.get(bucket);
+            if (sketch != null) {
+                sketch.merge(stored);
+            }
+        }
+
+        synchronized void markDirty(Set<LocalDate> buckets) {
+            dirty.addAll(buckets);
+        }
+
+        synchronized boolean evictIfIdle(long idleBefore) {
+            return dirty.isEmpty() && lastAccess < idleBefore;
+        }
+    }
+}
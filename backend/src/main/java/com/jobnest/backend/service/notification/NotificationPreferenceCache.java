@@ -0,0 +1,174 @@
+package com.jobnest.backend.service.notification;
+
+import com.jobnest.backend.entities.notification.Notification;
+import com.jobnest.backend.entities.notification.NotificationPreference;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notification preferences of every account as a bitmask, so the notify paths can check them
+ * without a query.
+ *
+ * Only accounts that turned something off are held; an account without an entry (including
+ * accounts without a preference row) gets everything. The map is loaded at startup, updated by
+ * {@link NotificationPreferenceServiceImpl} after commit, and reloaded every refresh-ms to pick up
+ * changes made on other nodes.
+ */
+@Slf4j
+@Component
+public class NotificationPreferenceCache {
+
+    public static final int APPLICATION_STATUS = 1;
+    public static final int NEW_APPLICATION = 1 << 1;
+    public static final int NEW_MESSAGE = 1 << 2;
+    public static final int JOB_EXPIRED = 1 << 3;
+    public static final int SYSTEM = 1 << 4;
+    public static final int ALL = APPLICATION_STATUS | NEW_APPLICATION | NEW_MESSAGE | JOB_EXPIRED | SYSTEM;
+
+    public enum Channel {
+        INBOX, PUSH, EMAIL
+    }
+
+    private static final String LOAD_SQL = """
+            SELECT account_id, application_status, new_application, new_message, job_expired, system
+            FROM notification_preferences
+            WHERE NOT (application_status AND new_application AND new_message AND job_expired AND system)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Byte values are cached by the JVM, so entries cost no allocation beyond the map node
+    private final Map<Long, Byte> masks = new ConcurrentHashMap<>();
+    private final Object reloadLock = new Object();
+
+    public NotificationPreferenceCache(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("jobnest.notifications.preferences.restricted", List.of(), masks);
+    }
+
+    /**
+     * Whether {@code type} may be delivered to the account on {@code channel}. Suppressions are counted.
+     */
+    public boolean shouldDeliver(Long accountId, Notification.NotificationType type, Channel channel) {
+        if (isEnabled(accountId, type)) {
+            return true;
+        }
+        meterRegistry.counter("jobnest.notifications.suppressed",
+                "type", type.name(), "channel", channel.name()).increment();
+        return false;
+    }
+
+    public boolean isEnabled(Long accountId, Notification.NotificationType type) {
+        Byte mask = masks.get(accountId);
+        return mask == null || (mask & bitFor(type)) != 0;
+    }
+
+    /**
+     * Keeps the accounts that accept {@code type}, counting the rest as suppressed.
+     */
+    public List<Long> filter(List<Long> accountIds, Notification.NotificationType type, Channel channel) {
+        List<Long> allowed = new ArrayList<>(accountIds.size());
+        int bit = bitFor(type);
+        for (Long accountId : accountIds) {
+            Byte mask = masks.get(accountId);
+            if (mask == null || (mask & bit) != 0) {
+                allowed.add(accountId);
+            }
+        }
+        int suppressed = accountIds.size() - allowed.size();
+        if (suppressed > 0) {
+            meterRegistry.counter("jobnest.notifications.suppressed",
+                    "type", type.name(), "channel", channel.name()).increment(suppressed);
+        }
+        return allowed;
+    }
+
+    /**
+     * Write-through from the preference service, applied once the current transaction commits.
+     */
+    public void put(NotificationPreference preference) {
+        Long accountId = preference.getAccount().getId();
+        int mask = toMask(preference.getApplicationStatus(), preference.getNewApplication(),
+                preference.getNewMessage(), preference.getJobExpired(), preference.getSystem());
+        Runnable apply = () -> {
+            synchronized (reloadLock) {
+                if (mask == ALL) {
+                    masks.remove(accountId);
+                } else {
+                    masks.put(accountId, (byte) mask);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.notifications.preferences.refresh-ms:300000}",
+            initialDelayString = "${app.notifications.preferences.refresh-ms:300000}")
+    public void reload() {
+        try {
+            // Held across the query so a write-through cannot be overwritten by an older snapshot
+            synchronized (reloadLock) {
+                Map<Long, Byte> loaded = new HashMap<>();
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    loaded.put(rs.getLong(1), (byte) toMask(rs.getBoolean(2), rs.getBoolean(3),
+                            rs.getBoolean(4), rs.getBoolean(5), rs.getBoolean(6)));
+                });
+                masks.keySet().retainAll(loaded.keySet());
+                masks.putAll(loaded);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load notification preferences: {}", e.getMessage());
+        }
+    }
+
+    static int bitFor(Notification.NotificationType type) {
+        switch (type) {
+            case NEW_APPLICATION:
+                return NEW_APPLICATION;
+            case APPLICATION_SUBMITTED:
+            case APPLICATION_STATUS_CHANGED:
+                return APPLICATION_STATUS;
+            case JOB_EXPIRED:
+                return JOB_EXPIRED;
+            default:
+                return SYSTEM;
+        }
+    }
+
+    private static int toMask(Boolean applicationStatus, Boolean newApplication, Boolean newMessage,
+                              Boolean jobExpired, Boolean system) {
+        int mask = 0;
+        if (!Boolean.FALSE.equals(applicationStatus)) mask |= APPLICATION_STATUS;
+        if (!Boolean.FALSE.equals(newApplication)) mask |= NEW_APPLICATION;
+        if (!Boolean.FALSE.equals(newMessage)) mask |= NEW_MESSAGE;
+        if (!Boolean.FALSE.equals(jobExpired)) mask |= JOB_EXPIRED;
+        if (!Boolean.FALSE.equals(system)) mask |= SYSTEM;
+        return mask;
+    }
+}
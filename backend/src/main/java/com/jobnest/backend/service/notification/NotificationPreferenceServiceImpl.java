@@ -9,6 +9,7 @@ import com.jobnest.backend.repository.notification.NotificationPreferenceReposit
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class NotificationPreferenceServiceImpl implements NotificationPreferenceService {
@@ -19,6 +20,9 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationPreferenceCache preferenceCache;
+
     @Override
     public NotificationPreferenceResponse getByAccountId(Long accountId) {
         Account account = userRepository.findById(accountId)
@@ -29,11 +33,17 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
     }
 
     @Override
+    @Transactional
     public NotificationPreferenceResponse update(Long accountId, NotificationPreferenceRequest request) {
         Account account = userRepository.findById(accountId)
                 .orElseThrow(() -> new RuntimeException("Account not found"));
+        // Accounts without a row get every notification; the first update creates it
         NotificationPreference pref = preferenceRepository.findByAccount(account)
-                .orElseThrow(() -> new RuntimeException("Preference not found"));
+                .orElseGet(() -> {
+                    NotificationPreference created = new NotificationPreference();
+                    created.setAccount(account);
+                    return created;
+                });
 
         pref.setApplicationStatus(request.getApplicationStatus());
         pref.setNewApplication(request.getNewApplication());
@@ -42,6 +52,7 @@ public class NotificationPreferenceServiceImpl implements NotificationPreference
         pref.setSystem(request.getSystem());
 
         preferenceRepository.save(pref);
+        preferenceCache.put(pref);
         return toDto(pref);
     }
 
@@ -22,6 +22,8 @@ public interface NotificationService {
 
     void deleteNotification(Long notificationId, Long recipientId);
 
+    void clearAll(Long recipientId);
+
     long countUnread(Long recipientId);
 
     void createNotification(
@@ -46,10 +48,19 @@ public interface NotificationService {
         Job job
     );
 
+    // Coalesced into a digest while the job keeps receiving applications
+    void notifyNewApplication(
+        Job job,
+        Application application
+    );
+
     void notifyApplicationStatusChanged(
         Account candidate,
         Application application
     );
 
+    // Inbox, push and email to each job's employer, written as one batch
+    void notifyJobsExpired(List<Job> jobs);
+
     List<NotificationResponse> getNotificationsByUser(Account account);
 }
@@ -4,21 +4,30 @@ import com.jobnest.backend.dto.response.NotificationResponse;
 import com.jobnest.backend.entities.auth.Account;
 import com.jobnest.backend.entities.job.Job;
 import com.jobnest.backend.entities.notification.Notification;
+import com.jobnest.backend.entities.notification.NotificationOutbox;
 import com.jobnest.backend.entities.Application;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.jobnest.backend.repository.auth.UserRepository;
+import com.jobnest.backend.repository.notification.NotificationOutboxRepository;
 import com.jobnest.backend.repository.notification.NotificationRepository;
+import com.jobnest.backend.service.EmailService;
+import com.jobnest.backend.service.notification.digest.NotificationDigestBuffer;
+import com.jobnest.backend.service.notification.outbox.NotificationDispatcher;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
@@ -26,10 +35,22 @@ public class NotificationServiceImpl implements NotificationService {
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private UnreadCounterStore unreadCounterStore;
+
+    @Autowired
+    private NotificationPreferenceCache notificationPreferenceCache;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationDigestBuffer notificationDigestBuffer;
+
+    @Autowired
+    private EmailService emailService;
 
     @Override
     public Page<NotificationResponse> getNotificationsByRecipient(
@@ -49,17 +70,23 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Transactional
     public void markAsRead(Long notificationId, Long recipientId) {
         Notification notification = notificationRepository
                 .findByIdAndRecipientId(notificationId, recipientId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterStore.adjustAfterCommit(recipientId, -1);
+        }
         notification.setIsRead(true);
         notificationRepository.save(notification);
     }
 
     @Override
+    @Transactional
     public void markAllAsRead(Long recipientId) {
         notificationRepository.markAllAsReadByRecipientId(recipientId);
+        unreadCounterStore.resetAfterCommit(recipientId);
     }
 
     @Override
@@ -68,13 +95,23 @@ public class NotificationServiceImpl implements NotificationService {
         Notification notification = notificationRepository
                 .findByIdAndRecipientId(notificationId, recipientId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterStore.adjustAfterCommit(recipientId, -1);
+        }
         notification.setDeletedAt(LocalDateTime.now());
         notificationRepository.save(notification);
     }
 
+    @Override
+    @Transactional
+    public void clearAll(Long recipientId) {
+        notificationRepository.clearAllByUser(recipientId);
+        unreadCounterStore.resetAfterCommit(recipientId);
+    }
+
     @Override
     public long countUnread(Long recipientId) {
-        return notificationRepository.countByRecipientIdAndIsReadFalse(recipientId);
+        return unreadCounterStore.get(recipientId);
     }
 
     @Override
@@ -85,18 +122,7 @@ public class NotificationServiceImpl implements NotificationService {
             String type,
             Long referenceId
     ) {
-        Account recipient = userRepository.findById(recipientId)
-                .orElseThrow(() -> new RuntimeException("Account not found"));
-
-        Notification notification = new Notification();
-        notification.setRecipient(recipient);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(parseNotificationType(type));
-        notification.setReferenceId(referenceId);
-        notification.setIsRead(false);
-
-        notificationRepository.save(notification);
+        enqueue(recipientId, title, message, parseNotificationType(type), referenceId, false);
     }
 
     @Override
@@ -107,68 +133,148 @@ public class NotificationServiceImpl implements NotificationService {
             String type,
             Long referenceId
     ) {
-        Notification notification = new Notification();
-        notification.setRecipient(recipient);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(parseNotificationType(type));
-        notification.setReferenceId(referenceId);
-        notification.setIsRead(false);
-
-        notificationRepository.save(notification);
+        enqueue(recipient.getId(), title, message, parseNotificationType(type), referenceId, false);
     }
 
     @Override
     public void notifyCandidateAppliedJob(Account candidate, Job job) {
-        Notification notification = new Notification();
-        notification.setRecipient(candidate);
-        notification.setTitle("Application Submitted");
-        notification.setMessage(
+        enqueue(
+            candidate.getId(),
+            "Application Submitted",
             "You have successfully applied for the position "
             + job.getTitle()
             + " at "
-            + job.getCompany().getName()
+            + job.getCompany().getName(),
+            Notification.NotificationType.APPLICATION_SUBMITTED,
+            null,
+            true
         );
-        notification.setType(Notification.NotificationType.APPLICATION_SUBMITTED);
-        notification.setIsRead(false);
-        notification.setCreatedAt(LocalDateTime.now());
+    }
 
-        notificationRepository.save(notification);
+    @Override
+    public void notifyNewApplication(Job job, Application application) {
+        Long employerId = job.getEmployer().getId();
+        Notification.NotificationType type = Notification.NotificationType.NEW_APPLICATION;
+        if (!notificationPreferenceCache.shouldDeliver(employerId, type, NotificationPreferenceCache.Channel.INBOX)) {
+            return;
+        }
+        if (notificationDigestBuffer.offer(employerId, type, job.getId(), job.getTitle(), application.getId())) {
+            enqueue(
+                employerId,
+                "New CV Submitted",
+                "A new candidate has applied for your job: " + job.getTitle(),
+                type,
+                application.getId(),
+                true
+            );
+        }
+    }
 
-        // Send real-time notification via WebSocket
-        NotificationResponse notificationResponse = toDto(notification);
-        messagingTemplate.convertAndSendToUser(
-            candidate.getId().toString(),
-            "/queue/notifications",
-            notificationResponse
-        );
+    /**
+     * Sends one summary notification per digest window that closed with events in it.
+     */
+    // Not transactional: each digest's outbox row commits on its own, so one failure cannot roll back the rest
+    @Scheduled(fixedDelayString = "${app.notifications.digest.flush-interval-ms:15000}")
+    public void flushDigests() {
+        flushDigests(false);
+    }
+
+    @PreDestroy
+    public void flushPendingDigests() {
+        flushDigests(true);
+    }
+
+    private void flushDigests(boolean force) {
+        for (NotificationDigestBuffer.Digest digest : notificationDigestBuffer.drain(force)) {
+            try {
+                enqueue(
+                    digest.recipientId(),
+                    digest.count() == 1 ? "New CV Submitted" : "New CVs Submitted",
+                    digest.count() == 1
+                        ? "A new candidate has applied for your job: " + digest.label()
+                        : digest.count() + " new applications for " + digest.label(),
+                    digest.type(),
+                    digest.latestReferenceId(),
+                    true
+                );
+            } catch (Exception e) {
+                log.warn("Failed to send digest of {} notifications to user {}: {}",
+                        digest.count(), digest.recipientId(), e.getMessage());
+                // Retried with the next flush
+                notificationDigestBuffer.restore(digest);
+            }
+        }
     }
 
     @Override
     public void notifyApplicationStatusChanged(Account candidate, Application application) {
-        Notification notification = new Notification();
-        notification.setRecipient(candidate);
-        notification.setTitle("Application Status Updated");
-        notification.setMessage(
+        enqueue(
+            candidate.getId(),
+            "Application Status Updated",
             "Your application status for the position "
             + application.getJob().getTitle()
             + " has been updated to: "
-            + application.getStatus().name()
+            + application.getStatus().name(),
+            Notification.NotificationType.APPLICATION_STATUS_CHANGED,
+            application.getId(),
+            true
         );
-        notification.setType(Notification.NotificationType.APPLICATION_STATUS_CHANGED);
-        notification.setReferenceId(application.getId());
-        notification.setIsRead(false);
-        notification.setCreatedAt(LocalDateTime.now());
+        emailService.sendApplicationStatusEmail(application);
+    }
 
-        notificationRepository.save(notification);
+    @Override
+    public void notifyJobsExpired(List<Job> jobs) {
+        List<NotificationOutbox> outbox = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            if (notificationPreferenceCache.shouldDeliver(job.getEmployerId(),
+                    Notification.NotificationType.JOB_EXPIRED, NotificationPreferenceCache.Channel.INBOX)) {
+                NotificationOutbox row = new NotificationOutbox();
+                row.setRecipientId(job.getEmployerId());
+                row.setTitle("Job Posting Expired");
+                row.setMessage("Your job posting " + job.getTitle()
+                        + " has expired. Extend it to keep receiving applications.");
+                row.setType(Notification.NotificationType.JOB_EXPIRED);
+                row.setReferenceId(job.getId());
+                row.setPush(true);
+                outbox.add(row);
+            }
+            if (job.getEmployer() != null) {
+                emailService.sendJobExpiredEmail(job.getEmployerId(), job.getEmployer().getEmail(),
+                        job.getId(), job.getTitle(), job.getExpiresAt());
+            }
+        }
+        if (!outbox.isEmpty()) {
+            notificationOutboxRepository.saveAll(outbox);
+            notificationDispatcher.wakeUpAfterCommit();
+        }
+    }
 
-        // Gửi real-time notification qua WebSocket
-        NotificationResponse notificationResponse = toDto(notification);
-        messagingTemplate.convertAndSendToUser(
-            candidate.getId().toString(),
-            "/queue/notifications",
-            notificationResponse
-        );
+    /**
+     * Writes the notification to the outbox in the caller's transaction. The dispatcher inserts
+     * it into notifications and sends the WebSocket push (if requested) after the commit.
+     */
+    private void enqueue(
+            Long recipientId,
+            String title,
+            String message,
+            Notification.NotificationType type,
+            Long referenceId,
+            boolean push
+    ) {
+        // Covers the WebSocket push as well, both come from the outbox row
+        if (!notificationPreferenceCache.shouldDeliver(recipientId, type, NotificationPreferenceCache.Channel.INBOX)) {
+            return;
+        }
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.setRecipientId(recipientId);
+        outbox.setTitle(title);
+        outbox.setMessage(message);
+        outbox.setType(type);
+        outbox.setReferenceId(referenceId);
+        outbox.setPush(push);
+        notificationOutboxRepository.save(outbox);
+
+        notificationDispatcher.wakeUpAfterCommit();
     }
 
     @Override
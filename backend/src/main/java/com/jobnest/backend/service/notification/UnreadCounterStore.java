@@ -0,0 +1,251 @@
+package com.jobnest.backend.service.notification;
+
+import com.jobnest.backend.dto.response.UnreadCountMessage;
+import com.jobnest.backend.repository.notification.NotificationRepository;
+import com.jobnest.backend.service.notification.push.NotificationPushGateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory unread notification count per recipient, so badge refreshes do not hit the database.
+ *
+ * Counters are loaded on first read and then kept current by the notification writes, which
+ * apply their change after commit and push the new count on /user/queue/notifications.
+ * Changes for recipients that are neither loaded nor connected are skipped; the next read loads
+ * the committed count. Every reconcile-ms the loaded counters are re-counted in batches, which
+ * fixes drift from other nodes or writes that bypass the service.
+ */
+@Slf4j
+@Component
+public class UnreadCounterStore {
+
+    private static final String DESTINATION = "/queue/notifications";
+
+    private static final String COUNT_SQL = """
+            SELECT recipient_id, count(*) FROM notifications
+            WHERE recipient_id IN (%s) AND is_read = false AND deleted_at IS NULL
+            GROUP BY recipient_id
+            """;
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPushGateway pushGateway;
+    private final SimpUserRegistry userRegistry;
+    private final ThreadPoolTaskScheduler pushScheduler;
+    private final long idleEvictMs;
+    private final int reconcileBatchSize;
+
+    // ConcurrentHashMap locks per bin, so updates for different recipients rarely contend
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public UnreadCounterStore(NotificationRepository notificationRepository,
+                              JdbcTemplate jdbcTemplate,
+                              NotificationPushGateway pushGateway,
+                              SimpUserRegistry userRegistry,
+                              @Qualifier("notificationPushScheduler") ThreadPoolTaskScheduler pushScheduler,
+                              @Value("${app.notifications.unread-idle-evict-ms:3600000}") long idleEvictMs,
+                              @Value("${app.notifications.unread-reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pushGateway = pushGateway;
+        this.userRegistry = userRegistry;
+        this.pushScheduler = pushScheduler;
+        this.idleEvictMs = idleEvictMs;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public long get(Long recipientId) {
+        return counters.computeIfAbsent(recipientId, this::load).read();
+    }
+
+    /**
+     * Adds {@code delta} (negative for reads and deletes) once the current transaction commits.
+     */
+    public void adjustAfterCommit(Long recipientId, long delta) {
+        if (delta != 0) {
+            afterCommit(() -> adjust(recipientId, delta));
+        }
+    }
+
+    /**
+     * Sets the count to zero once the current transaction commits (read all, clear all).
+     */
+    public void resetAfterCommit(Long recipientId) {
+        afterCommit(() -> {
+            counters.computeIfAbsent(recipientId, id -> new Counter(0)).set(0);
+            push(recipientId, 0);
+        });
+    }
+
+    /**
+     * Applies an already committed change, e.g. from the outbox dispatcher's afterCommit hook.
+     */
+    public void adjust(Long recipientId, long delta) {
+        Counter counter = counters.get(recipientId);
+        if (counter == null) {
+            if (!isConnected(recipientId)) {
+                return;
+            }
+            // The change is committed, so a fresh load already includes it
+            counter = counters.computeIfAbsent(recipientId, this::load);
+            push(recipientId, counter.read());
+            return;
+        }
+        push(recipientId, counter.add(delta));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.unread-reconcile-ms:300000}",
+            initialDelayString = "${app.notifications.unread-reconcile-ms:300000}")
+    public void reconcile() {
+        long idleBefore = System.currentTimeMillis() - idleEvictMs;
+        List<Long> loaded = new ArrayList<>();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            if (entry.getValue().isIdle(idleBefore) && !isConnected(entry.getKey())) {
+                counters.remove(entry.getKey(), entry.getValue());
+            } else {
+                loaded.add(entry.getKey());
+            }
+        }
+
+        int corrected = 0;
+        for (int from = 0; from < loaded.size(); from += reconcileBatchSize) {
+            try {
+                corrected += reconcile(loaded.subList(from, Math.min(from + reconcileBatchSize, loaded.size())));
+            } catch (Exception e) {
+                log.warn("Unread counter reconcile failed: {}", e.getMessage());
+                return;
+            }
+        }
+        if (corrected > 0) {
+            log.info("Corrected {} of {} unread notification counters", corrected, loaded.size());
+        }
+    }
+
+    private int reconcile(List<Long> recipientIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Long recipientId : recipientIds) {
+            Counter counter = counters.get(recipientId);
+            if (counter != null) {
+                versions.put(recipientId, counter.version());
+            }
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(recipientIds.size(), "?"));
+        jdbcTemplate.query(String.format(COUNT_SQL, placeholders),
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getLong(2));
+                },
+                recipientIds.toArray());
+
+        int corrected = 0;
+        for (Map.Entry<Long, Long> entry : versions.entrySet()) {
+            Counter counter = counters.get(entry.getKey());
+            long actual = counts.getOrDefault(entry.getKey(), 0L);
+            // Skipped if the counter changed while counting; the next run picks it up
+            if (counter != null && counter.setIfUnchanged(entry.getValue(), actual)) {
+                push(entry.getKey(), actual);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private Counter load(Long recipientId) {
+        return new Counter(notificationRepository.countByRecipientIdAndIsReadFalse(recipientId));
+    }
+
+    // Counters are per node, so this looks at local sessions (all nodes' sessions with the relay)
+    private boolean isConnected(Long recipientId) {
+        return userRegistry.getUser(recipientId.toString()) != null;
+    }
+
+    private void push(Long recipientId, long unreadCount) {
+        pushScheduler.execute(() -> {
+            try {
+                pushGateway.sendToUser(recipientId, DESTINATION,
+                        new UnreadCountMessage(recipientId, unreadCount), "unread-count");
+            } catch (Exception e) {
+                // The client still gets the right count on its next read or reconcile
+                log.debug("Could not push unread count to user {}: {}", recipientId, e.getMessage());
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class Counter {
+        private long value;
+        private long version;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        Counter(long value) {
+            this.value = value;
+        }
+
+        synchronized long read() {
+            lastAccess = System.currentTimeMillis();
+            return value;
+        }
+
+        synchronized long add(long delta) {
+            lastAccess = System.currentTimeMillis();
+            value = Math.max(0, value + delta);
+            version++;
+            return value;
+        }
+
+        synchronized void set(long newValue) {
+            lastAccess = System.currentTimeMillis();
+            value = newValue;
+            version++;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        /**
+         * Returns true only if the value was actually corrected.
+         */
+        synchronized boolean setIfUnchanged(long expectedVersion, long newValue) {
+            if (version != expectedVersion || value == newValue) {
+                return false;
+            }
+            value = newValue;
+            version++;
+            return true;
+        }
+
+        boolean isIdle(long idleBefore) {
+            return lastAccess < idleBefore;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobnest.backend.service.notification.broadcast;
+
+import com.jobnest.backend.dto.request.NotificationBroadcastRequest;
+import com.jobnest.backend.dto.response.NotificationBroadcastResponse;
+import com.jobnest.backend.entities.notification.Notification;
+
+import java.util.List;
+
+public interface NotificationBroadcastService {
+
+    /**
+     * Starts writing the notification to every recipient of the request in the background.
+     */
+    NotificationBroadcastResponse start(NotificationBroadcastRequest request);
+
+    /**
+     * Same as {@link #start(NotificationBroadcastRequest)}, for system senders such as scheduled jobs.
+     */
+    NotificationBroadcastResponse start(RecipientQuery recipients, String title, String message,
+                                        Notification.NotificationType type, Long referenceId, boolean push);
+
+    NotificationBroadcastResponse getProgress(String broadcastId);
+
+    List<NotificationBroadcastResponse> getRecent();
+}
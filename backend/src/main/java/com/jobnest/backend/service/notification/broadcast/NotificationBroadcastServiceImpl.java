@@ -0,0 +1,331 @@
+package com.jobnest.backend.service.notification.broadcast;
+
+import com.jobnest.backend.dto.request.NotificationBroadcastRequest;
+import com.jobnest.backend.dto.response.NotificationBroadcastResponse;
+import com.jobnest.backend.dto.response.NotificationResponse;
+import com.jobnest.backend.entities.auth.Account;
+import com.jobnest.backend.entities.notification.Notification;
+import com.jobnest.backend.exception.BadRequestException;
+import com.jobnest.backend.service.notification.NotificationPreferenceCache;
+import com.jobnest.backend.service.notification.UnreadCounterStore;
+import com.jobnest.backend.service.notification.outbox.NotificationBulkWriter;
+import com.jobnest.backend.service.notification.outbox.NotificationDispatcher;
+import com.jobnest.backend.service.notification.outbox.NotificationDraft;
+import com.jobnest.backend.service.notification.push.NotificationPushGateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one notification to every recipient of a {@link RecipientQuery}.
+ *
+ * Recipient ids are streamed from a cursor (fetch-size rows at a time) and written in chunks with
+ * {@link NotificationBulkWriter}, each chunk in its own transaction. Broadcasts do not go through
+ * the outbox: they are not tied to a caller's transaction, and a failed run reports how many
+ * recipients were already written. WebSocket pushes only go to connected recipients and are
+ * paced to push-rate per second across all running broadcasts.
+ */
+@Slf4j
+@Service
+public class NotificationBroadcastServiceImpl implements NotificationBroadcastService {
+
+    private static final int MAX_RETAINED = 50;
+
+    private final JdbcTemplate streamingTemplate;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final NotificationBulkWriter bulkWriter;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationPreferenceCache preferenceCache;
+    private final NotificationPushGateway pushGateway;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final long pushIntervalNanos;
+    private final long progressLogEvery;
+
+    private final Map<String, Broadcast> broadcasts = new ConcurrentHashMap<>();
+    private final Object pushPermitLock = new Object();
+    private long nextPushAt;
+
+    private final Counter writtenCounter;
+    private final Counter pushedCounter;
+
+    public NotificationBroadcastServiceImpl(JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            NotificationBulkWriter bulkWriter,
+                                            NotificationDispatcher notificationDispatcher,
+                                            UnreadCounterStore unreadCounterStore,
+                                            NotificationPreferenceCache preferenceCache,
+                                            NotificationPushGateway pushGateway,
+                                            @Qualifier("notificationBroadcastExecutor") ThreadPoolTaskExecutor executor,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${app.notifications.broadcast.fetch-size:5000}") int fetchSize,
+                                            @Value("${app.notifications.broadcast.chunk-size:1000}") int chunkSize,
+                                            @Value("${app.notifications.broadcast.push-rate:2000}") int pushesPerSecond,
+                                            @Value("${app.notifications.broadcast.progress-log-every:10000}") long progressLogEvery) {
+        // A cursor only streams inside a transaction, and only with a fetch size set
+        this.streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingTemplate.setFetchSize(fetchSize);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bulkWriter = bulkWriter;
+        this.notificationDispatcher = notificationDispatcher;
+        this.unreadCounterStore = unreadCounterStore;
+        this.preferenceCache = preferenceCache;
+        this.pushGateway = pushGateway;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.pushIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, pushesPerSecond);
+        this.progressLogEvery = progressLogEvery;
+
+        this.writtenCounter = meterRegistry.counter("jobnest.notifications.broadcast.written");
+        this.pushedCounter = meterRegistry.counter("jobnest.notifications.broadcast.pushed");
+        meterRegistry.gauge("jobnest.notifications.broadcast.running", broadcasts,
+                all -> all.values().stream().filter(b -> "RUNNING".equals(b.status)).count());
+    }
+
+    @Override
+    public NotificationBroadcastResponse start(NotificationBroadcastRequest request) {
+        if (request.getTitle() == null || request.getTitle().isBlank()
+                || request.getMessage() == null || request.getMessage().isBlank()) {
+            throw new BadRequestException("title and message are required");
+        }
+        return start(toQuery(request), request.getTitle(), request.getMessage(),
+                parseType(request.getType()), request.getReferenceId(), !Boolean.FALSE.equals(request.getPush()));
+    }
+
+    @Override
+    public NotificationBroadcastResponse start(RecipientQuery recipients, String title, String message,
+                                               Notification.NotificationType type, Long referenceId, boolean push) {
+        Broadcast broadcast = new Broadcast(UUID.randomUUID().toString(), recipients.getType());
+        trimFinished();
+        broadcasts.put(broadcast.id, broadcast);
+        try {
+            executor.execute(() -> run(broadcast, recipients, title, message, type, referenceId, push));
+        } catch (TaskRejectedException e) {
+            broadcasts.remove(broadcast.id);
+            throw new BadRequestException("Too many broadcasts are queued, try again later");
+        }
+        return broadcast.toResponse();
+    }
+
+    @Override
+    public NotificationBroadcastResponse getProgress(String broadcastId) {
+        Broadcast broadcast = broadcasts.get(broadcastId);
+        if (broadcast == null) {
+            throw new RuntimeException("Broadcast not found");
+        }
+        return broadcast.toResponse();
+    }
+
+    @Override
+    public List<NotificationBroadcastResponse> getRecent() {
+        return broadcasts.values().stream()
+                .sorted(Comparator.comparing((Broadcast b) -> b.startedAt).reversed())
+                .map(Broadcast::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void run(Broadcast broadcast, RecipientQuery recipients, String title, String message,
+                     Notification.NotificationType type, Long referenceId, boolean push) {
+        log.info("Broadcast {} to {} started", broadcast.id, recipients.getType());
+        try {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            readTemplate.executeWithoutResult(status -> streamingTemplate.query(recipients.getSql(), rs -> {
+                chunk.add(rs.getLong(1));
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(broadcast, chunk, title, message, type, referenceId, push);
+                    chunk.clear();
+                }
+            }, recipients.getArgs()));
+            if (!chunk.isEmpty()) {
+                writeChunk(broadcast, chunk, title, message, type, referenceId, push);
+            }
+            broadcast.finish("COMPLETED", null);
+            log.info("Broadcast {} completed: {} notifications, {} pushes, {}/s",
+                    broadcast.id, broadcast.written.get(), broadcast.pushed.get(), Math.round(broadcast.perSecond()));
+        } catch (Exception e) {
+            broadcast.finish("FAILED", e.getMessage());
+            log.warn("Broadcast {} failed after {} notifications: {}", broadcast.id, broadcast.written.get(), e.getMessage());
+        }
+    }
+
+    private void writeChunk(Broadcast broadcast, List<Long> recipientIds, String title, String message,
+                            Notification.NotificationType type, Long referenceId, boolean push) {
+        List<Long> allowed = preferenceCache.filter(recipientIds, type, NotificationPreferenceCache.Channel.INBOX);
+        if (allowed.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationDraft> drafts = new ArrayList<>(allowed.size());
+        for (Long recipientId : allowed) {
+            drafts.add(new NotificationDraft(recipientId, title, message, type, referenceId, push, now));
+        }
+        List<NotificationResponse> written = writeTemplate.execute(status -> bulkWriter.insert(drafts));
+        if (written == null) {
+            return;
+        }
+
+        long before = broadcast.written.getAndAdd(written.size());
+        writtenCounter.increment(written.size());
+        if ((before + written.size()) / progressLogEvery > before / progressLogEvery) {
+            log.info("Broadcast {}: {} notifications written, {}/s",
+                    broadcast.id, before + written.size(), Math.round(broadcast.perSecond()));
+        }
+
+        for (NotificationResponse notification : written) {
+            Long recipientId = notification.getRecipientId();
+            // Offline recipients see the notification on their next load, so only pay for pushes
+            // to connected ones (the counter store itself only pushes to loaded or connected users)
+            boolean connected = pushGateway.mayBeConnected(recipientId);
+            if (connected) {
+                acquirePushPermit();
+            }
+            unreadCounterStore.adjust(recipientId, 1);
+            if (push && connected) {
+                notificationDispatcher.push(notification);
+                broadcast.pushed.incrementAndGet();
+                pushedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Spaces pushes of all running broadcasts evenly at push-rate per second.
+     */
+    private void acquirePushPermit() {
+        long waitNanos;
+        synchronized (pushPermitLock) {
+            long now = System.nanoTime();
+            if (nextPushAt - now < 0) {
+                nextPushAt = now;
+            }
+            waitNanos = nextPushAt - now;
+            nextPushAt += pushIntervalNanos;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Broadcast interrupted", e);
+            }
+        }
+    }
+
+    private RecipientQuery toQuery(NotificationBroadcastRequest request) {
+        RecipientQuery.Type recipientType;
+        try {
+            recipientType = RecipientQuery.Type.valueOf(String.valueOf(request.getRecipientType()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("recipientType must be one of ROLE, JOB_APPLICANTS, SAVED_JOB_HOLDERS");
+        }
+
+        if (recipientType == RecipientQuery.Type.ROLE) {
+            try {
+                return RecipientQuery.byRole(Account.Role.valueOf(String.valueOf(request.getRole()).toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("role must be one of CANDIDATE, EMPLOYER, ADMIN");
+            }
+        }
+        if (request.getJobId() == null) {
+            throw new BadRequestException("jobId is required for " + recipientType);
+        }
+        return recipientType == RecipientQuery.Type.JOB_APPLICANTS
+                ? RecipientQuery.jobApplicants(request.getJobId())
+                : RecipientQuery.savedJobHolders(request.getJobId());
+    }
+
+    private Notification.NotificationType parseType(String type) {
+        if (type == null) {
+            return Notification.NotificationType.SYSTEM;
+        }
+        try {
+            return Notification.NotificationType.valueOf(type.trim().toUpperCase().replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid notification type: " + type);
+        }
+    }
+
+    private void trimFinished() {
+        if (broadcasts.size() < MAX_RETAINED) {
+            return;
+        }
+        broadcasts.values().stream()
+                .filter(b -> b.finishedAt != null)
+                .sorted(Comparator.comparing((Broadcast b) -> b.startedAt))
+                .limit(broadcasts.size() - MAX_RETAINED + 1L)
+                .collect(Collectors.toList())
+                .forEach(b -> broadcasts.remove(b.id));
+    }
+
+    private static class Broadcast {
+        private final String id;
+        private final RecipientQuery.Type recipientType;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong pushed = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        Broadcast(String id, RecipientQuery.Type recipientType) {
+            this.id = id;
+            this.recipientType = recipientType;
+        }
+
+        void finish(String status, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        double perSecond() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            long elapsedMs = Duration.ofNanos(end - startedNanos).toMillis();
+            return elapsedMs <= 0 ? 0 : written.get() * 1000.0 / elapsedMs;
+        }
+
+        NotificationBroadcastResponse toResponse() {
+            NotificationBroadcastResponse dto = new NotificationBroadcastResponse();
+            dto.setId(id);
+            dto.setStatus(status);
+            dto.setRecipientType(recipientType.name());
+            dto.setWritten(written.get());
+            dto.setPushed(pushed.get());
+            dto.setPerSecond(Math.round(perSecond() * 10) / 10.0);
+            dto.setError(error);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            return dto;
+        }
+    }
+}
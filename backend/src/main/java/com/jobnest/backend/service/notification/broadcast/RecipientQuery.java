@@ -0,0 +1,61 @@
+package com.jobnest.backend.service.notification.broadcast;
+
+import com.jobnest.backend.entities.auth.Account;
+
+/**
+ * A set of recipient account ids, selected in SQL so it can be streamed without loading entities.
+ * Every query returns distinct ids in ascending order.
+ */
+public final class RecipientQuery {
+
+    public enum Type {
+        ROLE, JOB_APPLICANTS, SAVED_JOB_HOLDERS
+    }
+
+    private final Type type;
+    private final String sql;
+    private final Object[] args;
+
+    private RecipientQuery(Type type, String sql, Object... args) {
+        this.type = type;
+        this.sql = sql;
+        this.args = args;
+    }
+
+    public static RecipientQuery byRole(Account.Role role) {
+        return new RecipientQuery(Type.ROLE, """
+                SELECT id FROM account
+                WHERE role = ? AND status = 'ACTIVE' AND deleted_at IS NULL
+                ORDER BY id
+                """, role.name());
+    }
+
+    public static RecipientQuery jobApplicants(Long jobId) {
+        return new RecipientQuery(Type.JOB_APPLICANTS, """
+                SELECT DISTINCT cp.user_id FROM applications a
+                JOIN candidate_profiles cp ON cp.id = a.candidate_id
+                WHERE a.job_id = ?
+                ORDER BY cp.user_id
+                """, jobId);
+    }
+
+    public static RecipientQuery savedJobHolders(Long jobId) {
+        return new RecipientQuery(Type.SAVED_JOB_HOLDERS, """
+                SELECT user_id FROM saved_jobs
+                WHERE job_id = ?
+                ORDER BY user_id
+                """, jobId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Object[] getArgs() {
+        return args.clone();
+    }
+}
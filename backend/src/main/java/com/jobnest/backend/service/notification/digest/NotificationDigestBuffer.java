@@ -0,0 +1,150 @@
+package com.jobnest.backend.service.notification.digest;
+
+import com.jobnest.backend.entities.notification.Notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time windows per (recipient, type, group) that coalesce bursts of notifications into one.
+ *
+ * The first event of a quiet group is sent right away and opens a window. Events arriving while
+ * the window is open are only counted, after their transaction commits. When the window closes
+ * the count becomes one summary notification and a new window opens; a window that closes with
+ * nothing counted is dropped, so the next event is sent right away again.
+ */
+@Component
+public class NotificationDigestBuffer {
+
+    private final long windowMs;
+    private final boolean enabled;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+
+    public NotificationDigestBuffer(MeterRegistry meterRegistry,
+                                    @Value("${app.notifications.digest.enabled:true}") boolean enabled,
+                                    @Value("${app.notifications.digest.window-ms:300000}") long windowMs) {
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.coalescedCounter = meterRegistry.counter("jobnest.notifications.digest.coalesced");
+        meterRegistry.gaugeMapSize("jobnest.notifications.digest.open_windows", List.of(), windows);
+    }
+
+    /**
+     * @return true if the caller should send this event now, false if it was added to an open window
+     */
+    public boolean offer(Long recipientId, Notification.NotificationType type, Long groupId,
+                         String label, Long referenceId) {
+        if (!enabled) {
+            return true;
+        }
+        Key key = new Key(recipientId, type, groupId);
+        if (windows.putIfAbsent(key, new Window(System.currentTimeMillis())) == null) {
+            return true;
+        }
+
+        Runnable count = () -> {
+            // The window may have closed since; the event then starts the next one
+            windows.compute(key, (k, current) -> {
+                Window target = current != null ? current : new Window(System.currentTimeMillis());
+                target.add(label, referenceId);
+                return target;
+            });
+            coalescedCounter.increment();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    count.run();
+                }
+            });
+        } else {
+            count.run();
+        }
+        return false;
+    }
+
+    /**
+     * Closes the windows that are due ({@code force}: all of them) and returns their summaries.
+     */
+    public List<Digest> drain(boolean force) {
+        long now = System.currentTimeMillis();
+        List<Digest> due = new ArrayList<>();
+        for (Key key : new ArrayList<>(windows.keySet())) {
+            windows.computeIfPresent(key, (k, window) -> {
+                if (!force && window.openedAt + windowMs > now) {
+                    return window;
+                }
+                Digest digest = window.close(k);
+                if (digest == null) {
+                    return null;
+                }
+                due.add(digest);
+                // Still busy: keep coalescing in a fresh window
+                return force ? null : new Window(now);
+            });
+        }
+        return due;
+    }
+
+    /**
+     * Puts back a digest that could not be sent, so its events go out with the next one.
+     */
+    public void restore(Digest digest) {
+        Key key = new Key(digest.recipientId(), digest.type(), digest.groupId());
+        windows.compute(key, (k, current) -> {
+            Window target = current != null ? current : new Window(System.currentTimeMillis());
+            target.addAll(digest.label(), digest.latestReferenceId(), digest.count());
+            return target;
+        });
+    }
+
+    public record Digest(Long recipientId, Notification.NotificationType type, Long groupId,
+                         String label, Long latestReferenceId, int count) {
+    }
+
+    private record Key(Long recipientId, Notification.NotificationType type, Long groupId) {
+    }
+
+    private static class Window {
+        private final long openedAt;
+        private int count;
+        private String label;
+        private Long latestReferenceId;
+
+        Window(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        synchronized void add(String label, Long referenceId) {
+            count++;
+            this.label = label;
+            this.latestReferenceId = referenceId;
+        }
+
+        synchronized void addAll(String label, Long referenceId, int events) {
+            count += events;
+            // Events counted since the digest was drained are newer
+            if (this.label == null) {
+                this.label = label;
+                this.latestReferenceId = referenceId;
+            }
+        }
+
+        synchronized Digest close(Key key) {
+            return count == 0 ? null
+                    : new Digest(key.recipientId(), key.type(), key.groupId(), label, latestReferenceId, count);
+        }
+    }
+}
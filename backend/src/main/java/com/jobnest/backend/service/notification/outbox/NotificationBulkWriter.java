@@ -0,0 +1,86 @@
+package com.jobnest.backend.service.notification.outbox;
+
+import com.jobnest.backend.dto.response.NotificationResponse;
+import com.jobnest.backend.repository.SequenceIdAllocator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes notifications with multi-row INSERT statements instead of one round trip per row.
+ * Ids are reserved from notifications_seq up front, in blocks shared with the JPA generator.
+ * Must run inside the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBulkWriter {
+
+    // 7 bind parameters per row, well under the 32767 PostgreSQL limit
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notifications (id, recipient_id, title, message, type, reference_id, is_read, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    /**
+     * @return the written notifications, in the same order as {@code drafts}
+     */
+    public List<NotificationResponse> insert(List<NotificationDraft> drafts) {
+        List<NotificationResponse> written = new ArrayList<>(drafts.size());
+        for (int from = 0; from < drafts.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<NotificationDraft> chunk = drafts.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, drafts.size()));
+            written.addAll(insertChunk(chunk));
+        }
+        return written;
+    }
+
+    private List<NotificationResponse> insertChunk(List<NotificationDraft> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW.length() + 2));
+        sql.append(INSERT_PREFIX);
+        List<Long> ids = sequenceIdAllocator.allocate("notifications_seq", chunk.size());
+        Object[] args = new Object[chunk.size() * 7];
+        int i = 0;
+        for (int row = 0; row < chunk.size(); row++) {
+            NotificationDraft draft = chunk.get(row);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args[i++] = ids.get(row);
+            args[i++] = draft.getRecipientId();
+            args[i++] = draft.getTitle();
+            args[i++] = draft.getMessage();
+            args[i++] = draft.getType().name();
+            args[i++] = draft.getReferenceId();
+            args[i++] = Timestamp.valueOf(draft.getCreatedAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+
+        List<NotificationResponse> written = new ArrayList<>(chunk.size());
+        for (int row = 0; row < chunk.size(); row++) {
+            written.add(toResponse(ids.get(row), chunk.get(row)));
+        }
+        return written;
+    }
+
+    static NotificationResponse toResponse(Long id, NotificationDraft draft) {
+        NotificationResponse dto = new NotificationResponse();
+        dto.setId(id);
+        dto.setRecipientId(draft.getRecipientId());
+        dto.setTitle(draft.getTitle());
+        dto.setMessage(draft.getMessage());
+        dto.setType(draft.getType().name());
+        dto.setReferenceId(draft.getReferenceId());
+        dto.setIsRead(false);
+        dto.setCreatedAt(draft.getCreatedAt());
+        return dto;
+    }
+}
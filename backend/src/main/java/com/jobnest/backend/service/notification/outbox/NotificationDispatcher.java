@@ -0,0 +1,309 @@
+package com.jobnest.backend.service.notification.outbox;
+
+import com.jobnest.backend.dto.response.NotificationResponse;
+import com.jobnest.backend.entities.notification.Notification;
+import com.jobnest.backend.service.notification.UnreadCounterStore;
+import com.jobnest.backend.service.notification.push.NotificationPushGateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves rows from notification_outbox into notifications and pushes them over WebSocket.
+ *
+ * Rows are claimed with FOR UPDATE SKIP LOCKED, so several nodes can dispatch concurrently,
+ * written with one multi-row insert and deleted from the outbox in the same transaction.
+ * Pushes are sent only after that transaction commits. A batch that fails is retried row by
+ * row so a single bad row backs off on its own instead of blocking the rest.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, recipient_id, title, message, type, reference_id, push, created_at
+            FROM notification_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= now()
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String CLAIM_ONE_SQL = """
+            SELECT id, recipient_id, title, message, type, reference_id, push, created_at
+            FROM notification_outbox
+            WHERE id = ? AND status = 'PENDING'
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DUE_IDS_SQL = """
+            SELECT id FROM notification_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= now()
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE notification_outbox
+            SET attempts = attempts + 1,
+                next_attempt_at = ?,
+                status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE status END,
+                last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String DEPTH_SQL =
+            "SELECT count(*), min(created_at) FROM notification_outbox WHERE status = 'PENDING'";
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+            rs.getLong("id"),
+            new NotificationDraft(
+                    rs.getLong("recipient_id"),
+                    rs.getString("title"),
+                    rs.getString("message"),
+                    Notification.NotificationType.valueOf(rs.getString("type")),
+                    (Long) rs.getObject("reference_id"),
+                    rs.getBoolean("push"),
+                    rs.getTimestamp("created_at").toLocalDateTime()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBulkWriter bulkWriter;
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationPushGateway pushGateway;
+    private final ThreadPoolTaskScheduler pushScheduler;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int maxPushAttempts;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestPendingMs = new AtomicLong();
+
+    private final Counter dispatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter pushFailedCounter;
+    private final Timer lagTimer;
+
+    public NotificationDispatcher(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  NotificationBulkWriter bulkWriter,
+                                  UnreadCounterStore unreadCounterStore,
+                                  NotificationPushGateway pushGateway,
+                                  @Qualifier("notificationPushScheduler") ThreadPoolTaskScheduler pushScheduler,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.notifications.dispatch-batch-size:500}") int batchSize,
+                                  @Value("${app.notifications.max-attempts:8}") int maxAttempts,
+                                  @Value("${app.notifications.max-push-attempts:3}") int maxPushAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bulkWriter = bulkWriter;
+        this.unreadCounterStore = unreadCounterStore;
+        this.pushGateway = pushGateway;
+        this.pushScheduler = pushScheduler;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxPushAttempts = maxPushAttempts;
+
+        this.dispatchedCounter = meterRegistry.counter("jobnest.notifications.outbox.dispatched");
+        this.retriedCounter = meterRegistry.counter("jobnest.notifications.outbox.retried");
+        this.pushFailedCounter = meterRegistry.counter("jobnest.notifications.push.failed");
+        this.lagTimer = Timer.builder("jobnest.notifications.outbox.lag")
+                .description("Time from outbox write to notification insert")
+                .register(meterRegistry);
+        meterRegistry.gauge("jobnest.notifications.outbox.depth", depth);
+        meterRegistry.gauge("jobnest.notifications.outbox.oldest_age_ms", oldestPendingMs);
+    }
+
+    /**
+     * Dispatches soon after the current transaction commits, instead of waiting for the next poll.
+     */
+    public void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            pushScheduler.execute(() -> {
+                wakeUpScheduled.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed >= batchSize);
+            refreshDepth();
+        } catch (Exception e) {
+            log.warn("Notification dispatch failed: {}", e.getMessage());
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes an already committed notification to the recipient, retrying with backoff.
+     */
+    public void push(NotificationResponse notification) {
+        pushScheduler.execute(() -> push(notification, 1));
+    }
+
+    private int dispatchBatch() {
+        List<NotificationResponse> written;
+        try {
+            written = transactionTemplate.execute(status -> {
+                List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, batchSize);
+                return rows.isEmpty() ? List.<NotificationResponse>of() : write(rows);
+            });
+        } catch (Exception e) {
+            log.warn("Notification batch failed, retrying rows one by one: {}", e.getMessage());
+            return dispatchIndividually();
+        }
+        return written == null ? 0 : written.size();
+    }
+
+    private int dispatchIndividually() {
+        List<Long> ids = jdbcTemplate.queryForList(DUE_IDS_SQL, Long.class, batchSize);
+        int dispatched = 0;
+        for (Long id : ids) {
+            try {
+                List<NotificationResponse> written = transactionTemplate.execute(status -> {
+                    List<OutboxRow> rows = jdbcTemplate.query(CLAIM_ONE_SQL, ROW_MAPPER, id);
+                    return rows.isEmpty() ? List.<NotificationResponse>of() : write(rows);
+                });
+                dispatched += written == null ? 0 : written.size();
+            } catch (Exception e) {
+                scheduleRetry(id, e);
+            }
+        }
+        // Short of a full batch so dispatch() stops looping; the rest waits for the next poll
+        return Math.min(dispatched, batchSize - 1);
+    }
+
+    /**
+     * Runs inside the claiming transaction. Pushes are registered to run after it commits.
+     */
+    private List<NotificationResponse> write(List<OutboxRow> rows) {
+        List<NotificationDraft> drafts = new ArrayList<>(rows.size());
+        List<Object[]> outboxIds = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            drafts.add(row.draft);
+            outboxIds.add(new Object[]{row.id});
+        }
+
+        List<NotificationResponse> written = bulkWriter.insert(drafts);
+        jdbcTemplate.batchUpdate("DELETE FROM notification_outbox WHERE id = ?", outboxIds);
+
+        List<NotificationResponse> toPush = new ArrayList<>();
+        Map<Long, Long> newPerRecipient = new HashMap<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            if (drafts.get(i).isPush()) {
+                toPush.add(written.get(i));
+            }
+            newPerRecipient.merge(drafts.get(i).getRecipientId(), 1L, Long::sum);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                LocalDateTime now = LocalDateTime.now();
+                for (NotificationDraft draft : drafts) {
+                    lagTimer.record(Duration.between(draft.getCreatedAt(), now));
+                }
+                dispatchedCounter.increment(drafts.size());
+                toPush.forEach(NotificationDispatcher.this::push);
+                newPerRecipient.forEach(unreadCounterStore::adjust);
+            }
+        });
+        return written;
+    }
+
+    private void push(NotificationResponse notification, int attempt) {
+        try {
+            pushGateway.sendToUser(notification.getRecipientId(), "/queue/notifications", notification);
+        } catch (Exception e) {
+            if (attempt >= maxPushAttempts) {
+                pushFailedCounter.increment();
+                log.warn("Giving up pushing notification {} to user {}: {}",
+                        notification.getId(), notification.getRecipientId(), e.getMessage());
+                return;
+            }
+            long delayMs = 200L << (attempt - 1);
+            pushScheduler.schedule(() -> push(notification, attempt + 1), Instant.now().plusMillis(delayMs));
+        }
+    }
+
+    private void scheduleRetry(Long outboxId, Exception cause) {
+        try {
+            // Exponential backoff: 1s, 2s, 4s ... capped at 10 minutes
+            Integer attempts = jdbcTemplate.queryForObject(
+                    "SELECT attempts FROM notification_outbox WHERE id = ?", Integer.class, outboxId);
+            long delayMs = Math.min(TimeUnit.SECONDS.toMillis(1) << Math.min(attempts == null ? 0 : attempts, 20),
+                    TimeUnit.MINUTES.toMillis(10));
+            String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+            jdbcTemplate.update(RETRY_SQL,
+                    Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(delayMs))),
+                    maxAttempts,
+                    error.length() > 500 ? error.substring(0, 500) : error,
+                    outboxId);
+            retriedCounter.increment();
+        } catch (Exception e) {
+            log.warn("Could not record failure of notification outbox row {}: {}", outboxId, e.getMessage());
+        }
+    }
+
+    private void refreshDepth() {
+        jdbcTemplate.query(DEPTH_SQL, rs -> {
+            depth.set(rs.getLong(1));
+            Timestamp oldest = rs.getTimestamp(2);
+            oldestPendingMs.set(oldest == null ? 0
+                    : Math.max(0, System.currentTimeMillis() - oldest.getTime()));
+        });
+    }
+
+    private record OutboxRow(long id, NotificationDraft draft) {
+    }
+}
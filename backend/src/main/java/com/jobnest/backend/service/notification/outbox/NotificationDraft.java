@@ -0,0 +1,23 @@
+package com.jobnest.backend.service.notification.outbox;
+
+import com.jobnest.backend.entities.notification.Notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification that has not been written to the notifications table yet.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationDraft {
+    private final Long recipientId;
+    private final String title;
+    private final String message;
+    private final Notification.NotificationType type;
+    private final Long referenceId;
+    private final boolean push;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.jobnest.backend.service.notification.push;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hands messages to the configured STOMP broker.
+ *
+ * With the in-memory broker (simple) only sessions on this node are reached. With the relay the
+ * external broker delivers to every node, and the user registry is shared between nodes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${app.websocket.broker:simple}' != 'postgres'")
+public class BrokerPushGateway implements NotificationPushGateway {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+
+    @Override
+    public void sendToUser(Long userId, String destination, Object payload, String coalesceKey) {
+        messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload, headers(coalesceKey));
+    }
+
+    @Override
+    public void send(String destination, Object payload, String coalesceKey) {
+        messagingTemplate.convertAndSend(destination, payload, headers(coalesceKey));
+    }
+
+    static Map<String, Object> headers(String coalesceKey) {
+        // Plain header maps are sent as STOMP (native) headers of the MESSAGE frame
+        return coalesceKey == null ? null : Map.of(OutboundSessionBuffer.COALESCE_HEADER, coalesceKey);
+    }
+
+    @Override
+    public boolean mayBeConnected(Long userId) {
+        return userRegistry.getUser(userId.toString()) != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobnest.backend.service.notification.push;
+
+/**
+ * Sends WebSocket messages to users wherever they are connected. All server-initiated pushes go
+ * through this instead of {@code SimpMessagingTemplate}, so the delivery mode (app.websocket.broker)
+ * decides whether a message reaches users connected to other nodes.
+ */
+public interface NotificationPushGateway {
+
+    /**
+     * Sends to every session of the user, e.g. destination /queue/notifications.
+     */
+    default void sendToUser(Long userId, String destination, Object payload) {
+        sendToUser(userId, destination, payload, null);
+    }
+
+    /**
+     * Like {@link #sendToUser(Long, String, Object)}; a backed-up session may replace a queued
+     * frame with the same {@code coalesceKey} by this one (see OutboundSessionBuffer).
+     */
+    void sendToUser(Long userId, String destination, Object payload, String coalesceKey);
+
+    /**
+     * Sends to a shared broker destination. Clients cannot subscribe to /topic (see
+     * WebSocketConfig), so anything meant for one user goes through sendToUser.
+     */
+    default void send(String destination, Object payload) {
+        send(destination, payload, null);
+    }
+
+    void send(String destination, Object payload, String coalesceKey);
+
+    /**
+     * False only if the user is known to have no session on any node. Used to skip pushes that
+     * nobody would receive.
+     */
+    boolean mayBeConnected(Long userId);
+}
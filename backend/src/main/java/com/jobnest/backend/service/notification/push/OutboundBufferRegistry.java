@@ -0,0 +1,129 @@
+package com.jobnest.backend.service.notification.push;
+
+import com.jobnest.backend.dto.response.WebSocketSessionResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps every WebSocket session in an {@link OutboundSessionBuffer} and keeps the per-session
+ * and aggregate send metrics (queue depth, send latency, drops, coalesced frames, disconnects).
+ */
+@Component
+public class OutboundBufferRegistry {
+
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final int capacity;
+    private final OutboundSessionBuffer.OverflowPolicy policy;
+    private final Map<String, OutboundSessionBuffer> sessions = new ConcurrentHashMap<>();
+
+    private final Timer latencyTimer;
+    private final DistributionSummary queueDepthSummary;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter disconnectedCounter;
+
+    public OutboundBufferRegistry(@Qualifier("websocketSendExecutor") ThreadPoolTaskExecutor sendExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.websocket.send-queue.capacity:256}") int capacity,
+                                  @Value("${app.websocket.send-queue.overflow:COALESCE}") String policy) {
+        this.sendExecutor = sendExecutor;
+        this.capacity = capacity;
+        this.policy = OutboundSessionBuffer.OverflowPolicy.valueOf(policy.trim().toUpperCase());
+
+        this.latencyTimer = Timer.builder("jobnest.websocket.send.latency")
+                .description("Time from enqueue to the frame being written to the session")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueDepthSummary = DistributionSummary.builder("jobnest.websocket.send.queue_depth")
+                .description("Session send queue depth after each enqueue")
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("jobnest.websocket.send.overflow", "action", "dropped");
+        this.coalescedCounter = meterRegistry.counter("jobnest.websocket.send.overflow", "action", "coalesced");
+        this.disconnectedCounter = meterRegistry.counter("jobnest.websocket.send.overflow", "action", "disconnected");
+        meterRegistry.gaugeMapSize("jobnest.websocket.sessions", List.of(), sessions);
+        meterRegistry.gauge("jobnest.websocket.send.queued", sessions,
+                all -> all.values().stream().mapToInt(OutboundSessionBuffer::getQueueDepth).sum());
+    }
+
+    /**
+     * Decorator factory for WebSocketTransportRegistration.
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                OutboundSessionBuffer buffered = new OutboundSessionBuffer(
+                        session, OutboundBufferRegistry.this, sendExecutor, capacity, policy);
+                sessions.put(session.getId(), buffered);
+                super.afterConnectionEstablished(buffered);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(buffered(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(buffered(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                WebSocketSession buffered = sessions.remove(session.getId());
+                super.afterConnectionClosed(buffered != null ? buffered : session, closeStatus);
+            }
+        };
+    }
+
+    private WebSocketSession buffered(WebSocketSession session) {
+        WebSocketSession buffered = sessions.get(session.getId());
+        return buffered != null ? buffered : session;
+    }
+
+    public List<WebSocketSessionResponse> getSessions() {
+        return sessions.values().stream()
+                .map(OutboundSessionBuffer::stats)
+                .sorted(Comparator.comparingInt(WebSocketSessionResponse::getQueueDepth).reversed())
+                .collect(Collectors.toList());
+    }
+
+    void recordQueueDepth(int depth) {
+        queueDepthSummary.record(depth);
+    }
+
+    void recordLatency(long nanos) {
+        latencyTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordDropped() {
+        droppedCounter.increment();
+    }
+
+    void recordCoalesced() {
+        coalescedCounter.increment();
+    }
+
+    void recordDisconnected() {
+        disconnectedCounter.increment();
+    }
+}
@@ -0,0 +1,214 @@
+package com.jobnest.backend.service.notification.push;
+
+import com.jobnest.backend.dto.response.WebSocketSessionResponse;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+/**
+ * Bounded send queue in front of one WebSocket (or SockJS) session.
+ *
+ * {@link #sendMessage} only enqueues; a shared executor drains the queue, one message at a time
+ * per session, so a slow client holds at most {@code capacity} frames and never blocks the
+ * outbound channel. What happens when the queue is full depends on the {@link OverflowPolicy}.
+ */
+public class OutboundSessionBuffer extends WebSocketSessionDecorator {
+
+    /**
+     * STOMP header that marks a frame as replaceable by a newer frame with the same value.
+     */
+    public static final String COALESCE_HEADER = "x-coalesce-key";
+
+    public enum OverflowPolicy {
+        // Drop the oldest queued frame
+        DROP_OLDEST,
+        // Replace a queued frame with the same coalesce key, otherwise drop the oldest
+        COALESCE,
+        // Close the session; the client reconnects and reloads its state
+        DISCONNECT
+    }
+
+    private final OutboundBufferRegistry registry;
+    private final Executor executor;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    private long sent;
+    private long dropped;
+    private long coalesced;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    OutboundSessionBuffer(WebSocketSession delegate, OutboundBufferRegistry registry, Executor executor,
+                          int capacity, OverflowPolicy policy) {
+        super(delegate);
+        this.registry = registry;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        boolean disconnect = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Entry entry = new Entry(message, System.nanoTime());
+            if (queue.size() >= capacity) {
+                if (policy == OverflowPolicy.DISCONNECT) {
+                    disconnect = true;
+                } else if (policy == OverflowPolicy.COALESCE && replaceQueued(entry)) {
+                    coalesced++;
+                    registry.recordCoalesced();
+                    return;
+                } else {
+                    queue.pollFirst();
+                    dropped++;
+                    registry.recordDropped();
+                }
+            }
+            if (!disconnect) {
+                queue.addLast(entry);
+                registry.recordQueueDepth(queue.size());
+                if (!draining) {
+                    draining = true;
+                    executor.execute(this::drain);
+                }
+            }
+        }
+        if (disconnect) {
+            registry.recordDisconnected();
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        synchronized (this) {
+            closed = true;
+            queue.clear();
+        }
+        super.close(status);
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    synchronized WebSocketSessionResponse stats() {
+        WebSocketSessionResponse stats = new WebSocketSessionResponse();
+        stats.setSessionId(getId());
+        stats.setUser(getPrincipal() != null ? getPrincipal().getName() : null);
+        stats.setConnectedAt(connectedAt);
+        stats.setQueueDepth(queue.size());
+        stats.setSent(sent);
+        stats.setDropped(dropped);
+        stats.setCoalesced(coalesced);
+        stats.setAvgLatencyMs(sent == 0 ? 0 : totalLatencyNanos / sent / 1_000_000.0);
+        stats.setMaxLatencyMs(maxLatencyNanos / 1_000_000.0);
+        return stats;
+    }
+
+    private void drain() {
+        while (true) {
+            Entry entry;
+            synchronized (this) {
+                entry = queue.pollFirst();
+                if (entry == null || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                getDelegate().sendMessage(entry.message);
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                // Frames were lost, so close the session and let the client reconnect and reload
+                try {
+                    close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException | RuntimeException ignored) {
+                    // The transport is already broken
+                }
+                return;
+            }
+            long latency = System.nanoTime() - entry.enqueuedAt;
+            registry.recordLatency(latency);
+            synchronized (this) {
+                sent++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            }
+        }
+    }
+
+    /**
+     * Puts the entry in place of a queued frame with the same coalesce key, keeping its position.
+     */
+    private boolean replaceQueued(Entry entry) {
+        String key = coalesceKey(entry.message);
+        if (key == null) {
+            return false;
+        }
+        Iterator<Entry> it = queue.iterator();
+        while (it.hasNext()) {
+            Entry queued = it.next();
+            if (key.equals(coalesceKey(queued.message))) {
+                queued.message = entry.message;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the coalesce header from the STOMP frame's header block, without scanning the body.
+     */
+    static String coalesceKey(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return null;
+        }
+        String frame = text.getPayload();
+        String prefix = COALESCE_HEADER + ":";
+        // Skip the command line, then read header lines up to the blank line
+        int lineStart = frame.indexOf('\n') + 1;
+        while (lineStart > 0 && lineStart < frame.length()) {
+            int lineEnd = frame.indexOf('\n', lineStart);
+            if (lineEnd <= lineStart) {
+                return null;
+            }
+            if (frame.startsWith(prefix, lineStart)) {
+                return frame.substring(lineStart + prefix.length(), lineEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return null;
+    }
+
+    private static class Entry {
+        private WebSocketMessage<?> message;
+        private final long enqueuedAt;
+
+        Entry(WebSocketMessage<?> message, long enqueuedAt) {
+            this.message = message;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.jobnest.backend.service.notification.push;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Fans pushes out to every node through a Postgres NOTIFY channel, without an external broker.
+ *
+ * Every node, including the sender, LISTENs on the channel over one dedicated pooled connection
+ * and delivers each message to the sessions in its own (per-node) user registry. NOTIFY payloads
+ * are limited to 8000 bytes; larger messages are only delivered on the sending node.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker", havingValue = "postgres")
+public class PostgresPushGateway implements NotificationPushGateway {
+
+    private static final String CHANNEL = "jobnest_ws_push";
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final ObjectMapper objectMapper;
+    private final int pollMs;
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter oversizedCounter;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresPushGateway(DataSource dataSource,
+                               JdbcTemplate jdbcTemplate,
+                               SimpMessagingTemplate messagingTemplate,
+                               SimpUserRegistry userRegistry,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.websocket.postgres.poll-ms:500}") int pollMs) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.objectMapper = objectMapper;
+        this.pollMs = pollMs;
+        this.sentCounter = meterRegistry.counter("jobnest.websocket.fanout.sent");
+        this.receivedCounter = meterRegistry.counter("jobnest.websocket.fanout.received");
+        this.oversizedCounter = meterRegistry.counter("jobnest.websocket.fanout.oversized");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "ws-fanout-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public void sendToUser(Long userId, String destination, Object payload, String coalesceKey) {
+        publish(userId, destination, payload, coalesceKey);
+    }
+
+    @Override
+    public void send(String destination, Object payload, String coalesceKey) {
+        publish(null, destination, payload, coalesceKey);
+    }
+
+    @Override
+    public boolean mayBeConnected(Long userId) {
+        // Sessions on other nodes are not visible here
+        return true;
+    }
+
+    private void publish(Long userId, String destination, Object payload, String coalesceKey) {
+        ObjectNode message = objectMapper.createObjectNode();
+        if (userId != null) {
+            message.put("u", userId);
+        }
+        message.put("d", destination);
+        if (coalesceKey != null) {
+            message.put("k", coalesceKey);
+        }
+        message.set("p", objectMapper.valueToTree(payload));
+        String json = message.toString();
+
+        if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            oversizedCounter.increment();
+            log.warn("Push to {} is too large for NOTIFY, delivering on this node only", destination);
+            deliver(message);
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+        }, CHANNEL, json);
+        sentCounter.increment();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for WebSocket pushes on {}", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receivedCounter.increment();
+                        try {
+                            deliver(objectMapper.readTree(notification.getParameter()));
+                        } catch (Exception e) {
+                            log.warn("Dropping malformed push: {}", e.getMessage());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Push listener lost its connection, reconnecting: {}", e.getMessage());
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliver(JsonNode message) {
+        String destination = message.path("d").asText();
+        JsonNode payload = message.path("p");
+        Map<String, Object> headers = BrokerPushGateway.headers(message.hasNonNull("k") ? message.get("k").asText() : null);
+        if (!message.hasNonNull("u")) {
+            messagingTemplate.convertAndSend(destination, payload, headers);
+            return;
+        }
+        String user = message.get("u").asText();
+        // Only the node holding the user's sessions delivers
+        if (userRegistry.getUser(user) != null) {
+            messagingTemplate.convertAndSendToUser(user, destination, payload, headers);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+-- Tables for the background work added after the baseline: the email queue, active job counters,
+-- job view rollups and sketches, and the notification outbox. Created here rather than in V1 so
+-- that baselined databases get them too.
+
+create table if not exists email_jobs (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6) not null,
+    status varchar(20) not null check (status in ('PENDING','SENDING','DEAD')),
+    last_error varchar(500),
+    html_body TEXT not null,
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    primary key (id)
+);
+
+create table if not exists job_counters (
+    active_count bigint not null,
+    ref_id bigint not null,
+    updated_at timestamp(6) not null,
+    scope varchar(10) not null check (scope in ('CATEGORY','COMPANY')),
+    primary key (ref_id, scope)
+);
+
+create table if not exists job_view_rollups (
+    bucket_start timestamp(6) not null,
+    job_id bigint not null,
+    unique_viewers bigint not null,
+    views bigint not null,
+    granularity varchar(10) not null check (granularity in ('HOUR','DAY')),
+    primary key (bucket_start, job_id, granularity)
+);
+
+create table if not exists job_view_sketches (
+    bucket_date date not null,
+    job_id bigint not null,
+    updated_at timestamp(6) not null,
+    registers bytea not null,
+    primary key (bucket_date, job_id)
+);
+
+create table if not exists notification_outbox (
+    attempts integer not null,
+    push boolean not null,
+    created_at timestamp(6) not null,
+    id bigint not null,
+    next_attempt_at timestamp(6) not null,
+    recipient_id bigint not null,
+    reference_id bigint,
+    status varchar(20) not null check (status in ('PENDING','FAILED')),
+    last_error varchar(500),
+    message TEXT not null,
+    title varchar(255) not null,
+    type varchar(255) not null check (type in ('NEW_APPLICATION','APPLICATION_SUBMITTED','APPLICATION_STATUS_CHANGED','JOB_EXPIRED','SYSTEM')),
+    primary key (id)
+);
+
+create index if not exists idx_email_jobs_due
+    on email_jobs (status, next_attempt_at);
+
+create index if not exists idx_notification_outbox_pending
+    on notification_outbox (status, next_attempt_at);
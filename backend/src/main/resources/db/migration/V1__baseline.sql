@@ -0,0 +1,469 @@
+-- Schema as created by ddl-auto=update from the entities before migrations were introduced.
+-- Databases that already have these tables are baselined at this version and skip this script;
+-- everything added since lives in the later migrations.
+
+create table account (
+    created_at timestamp(6) not null,
+    created_by bigint,
+    deleted_at timestamp(6),
+    id bigint generated by default as identity,
+    last_login_at timestamp(6),
+    updated_at timestamp(6),
+    updated_by bigint,
+    username varchar(150) not null unique,
+    avatar_url varchar(512),
+    email varchar(255) not null unique,
+    password_hash varchar(255) not null,
+    role varchar(255) not null check (role in ('CANDIDATE','EMPLOYER','ADMIN')),
+    status varchar(255) not null check (status in ('PENDING','ACTIVE','BLOCKED')),
+    primary key (id)
+);
+
+create table applications (
+    applied_at timestamp(6) not null,
+    candidate_id bigint not null,
+    cv_id bigint,
+    id bigint generated by default as identity,
+    job_id bigint not null,
+    reviewed_at timestamp(6),
+    cover_letter TEXT,
+    notes TEXT,
+    resume_url varchar(255),
+    status varchar(255) not null check (status in ('PENDING','REVIEWED','SHORTLISTED','REJECTED','ACCEPTED','WITHDRAWN')),
+    primary key (id)
+);
+
+create table audit_logs (
+    admin_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    target_id bigint,
+    target_type varchar(100),
+    action varchar(255) not null,
+    details json,
+    primary key (id)
+);
+
+create table candidate_cvs (
+    is_default boolean,
+    candidate_id bigint not null,
+    created_at timestamp(6) not null,
+    file_size bigint,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    title varchar(200) not null,
+    file_name varchar(255),
+    file_url TEXT not null,
+    primary key (id)
+);
+
+create table candidate_profiles (
+    date_of_birth date,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    user_id bigint not null unique,
+    gender varchar(10) check (gender in ('MALE','FEMALE','OTHER')),
+    years_of_experience varchar(10),
+    phone_number varchar(20),
+    about_me TEXT,
+    current_position varchar(255),
+    full_name varchar(255),
+    skills TEXT,
+    primary key (id)
+);
+
+create table comments (
+    author_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    post_id bigint not null,
+    updated_at timestamp(6),
+    content TEXT not null,
+    status varchar(255) not null check (status in ('ACTIVE','HIDDEN','DELETED')),
+    primary key (id)
+);
+
+create table companies (
+    verified BOOLEAN DEFAULT FALSE not null,
+    created_at timestamp(6) not null,
+    employer_id bigint not null,
+    id bigint generated by default as identity,
+    industry varchar(150),
+    name varchar(200) not null,
+    address varchar(255),
+    logo_url varchar(255),
+    primary key (id)
+);
+
+create table conversations (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    job_id bigint,
+    participant_one_id bigint not null,
+    participant_two_id bigint not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table email_verification (
+    is_used boolean not null,
+    account_id bigint not null,
+    created_at timestamp(6) not null,
+    created_by bigint,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    updated_by bigint,
+    token varchar(255) not null,
+    primary key (id)
+);
+
+create table job_categories (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    name varchar(150) not null unique,
+    slug varchar(150) not null unique,
+    description TEXT,
+    icon_url varchar(255),
+    primary key (id)
+);
+
+create table job_views (
+    id bigint generated by default as identity,
+    job_id bigint not null,
+    viewed_at timestamp(6) not null,
+    viewer_id bigint,
+    viewer_ip varchar(45),
+    primary key (id)
+);
+
+create table jobs (
+    is_urgent boolean,
+    max_salary integer,
+    min_salary integer,
+    category_id bigint not null,
+    company_id bigint,
+    employer_id bigint not null,
+    expires_at timestamp(6),
+    id bigint generated by default as identity,
+    posted_at timestamp(6) not null,
+    updated_at timestamp(6),
+    experience varchar(50),
+    experience_level varchar(50),
+    education varchar(100),
+    location varchar(150) not null,
+    title varchar(200) not null,
+    description TEXT not null,
+    skills TEXT,
+    status varchar(255) not null check (status in ('ACTIVE','HIDDEN','EXPIRED')),
+    type varchar(255) not null check (type in ('FULLTIME','PARTTIME','INTERNSHIP','CONTRACT')),
+    primary key (id)
+);
+
+create table messages (
+    is_read boolean,
+    conversation_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    sender_id bigint not null,
+    content TEXT not null,
+    primary key (id)
+);
+
+create table notification_preferences (
+    application_status boolean not null,
+    job_expired boolean not null,
+    new_application boolean not null,
+    new_message boolean not null,
+    system boolean not null,
+    account_id bigint not null unique,
+    id bigint generated by default as identity,
+    primary key (id)
+);
+
+create table notifications (
+    is_read boolean,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigint generated by default as identity,
+    recipient_id bigint not null,
+    reference_id bigint,
+    message TEXT not null,
+    title varchar(255) not null,
+    type varchar(255) not null check (type in ('NEW_APPLICATION','APPLICATION_SUBMITTED','APPLICATION_STATUS_CHANGED','SYSTEM')),
+    primary key (id)
+);
+
+create table password_reset_tokens (
+    is_used boolean not null,
+    account_id bigint not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    token varchar(255) not null unique,
+    primary key (id)
+);
+
+create table payments (
+    amount numeric(38,2) not null,
+    completed_at timestamp(6),
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    payer_id bigint not null,
+    service_package_id bigint,
+    payment_method varchar(255),
+    status varchar(255) not null check (status in ('PENDING','COMPLETED','FAILED','REFUNDED')),
+    transaction_id varchar(255),
+    type varchar(255) not null check (type in ('EMPLOYER_VERIFICATION','SERVICE_PACKAGE','COMMISSION')),
+    primary key (id)
+);
+
+create table post_likes (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    post_id bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    unique (post_id, user_id)
+);
+
+create table posts (
+    comment_count integer not null,
+    like_count integer not null,
+    author_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    category varchar(255) not null check (category in ('INTERVIEW_EXPERIENCE','CAREER_ADVICE','COMPANY_REVIEW','JOB_SEARCH_TIP','OTHER')),
+    content TEXT not null,
+    image_url varchar(255),
+    status varchar(255) not null check (status in ('ACTIVE','HIDDEN','DELETED')),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table refresh_tokens (
+    revoked boolean not null,
+    account_id bigint not null,
+    created_at timestamp(6) not null,
+    created_by bigint,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    updated_by bigint,
+    ip_address varchar(45),
+    token_hash varchar(512) not null,
+    device_info varchar(255),
+    primary key (id)
+);
+
+create table reports (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    reporter_id bigint not null,
+    resolved_at timestamp(6),
+    target_id bigint not null,
+    admin_note TEXT,
+    description TEXT,
+    reason varchar(255) not null,
+    status varchar(255) not null check (status in ('PENDING','REVIEWING','RESOLVED','DISMISSED')),
+    target_type varchar(255) not null check (target_type in ('USER','JOB','POST','COMMENT')),
+    primary key (id)
+);
+
+create table saved_jobs (
+    job_id bigint not null,
+    saved_at timestamp(6) not null,
+    user_id bigint not null,
+    primary key (job_id, user_id)
+);
+
+create table service_packages (
+    duration_days integer not null,
+    is_active boolean,
+    max_job_posts integer,
+    price numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    description TEXT,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table system_logs (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint,
+    action varchar(255) not null,
+    details TEXT,
+    ip_address varchar(255),
+    level varchar(255) not null check (level in ('INFO','WARNING','ERROR','CRITICAL')),
+    primary key (id)
+);
+
+alter table if exists applications 
+   add constraint FKafjbp7mjswoqo9dnnt02cql97 
+   foreign key (candidate_id) 
+   references candidate_profiles;
+
+alter table if exists applications 
+   add constraint FKn9s3ww99r87ihbpds9ff6wg2n 
+   foreign key (cv_id) 
+   references candidate_cvs;
+
+alter table if exists applications 
+   add constraint FK65weib1lru9dkrbto5pv389vi 
+   foreign key (job_id) 
+   references jobs;
+
+alter table if exists audit_logs 
+   add constraint FKlr0rn4pgp8jfbaiw81g9w2m9u 
+   foreign key (admin_id) 
+   references account;
+
+alter table if exists candidate_cvs 
+   add constraint FKd1m2hjcniupv8heitkauvl2d8 
+   foreign key (candidate_id) 
+   references candidate_profiles;
+
+alter table if exists candidate_profiles 
+   add constraint FKquajas6i4t5tcdfu69wbjegnx 
+   foreign key (user_id) 
+   references account;
+
+alter table if exists comments 
+   add constraint FKjrrvr9mm0ofia5v5vgqoder69 
+   foreign key (author_id) 
+   references account;
+
+alter table if exists comments 
+   add constraint FKh4c7lvsc298whoyd4w9ta25cr 
+   foreign key (post_id) 
+   references posts;
+
+alter table if exists companies 
+   add constraint FKmy1fxpc60ran7qkwljcgvxcww 
+   foreign key (employer_id) 
+   references account;
+
+alter table if exists conversations 
+   add constraint FK3j1sb5t31ih5kic1wv9vqrtlk 
+   foreign key (job_id) 
+   references jobs;
+
+alter table if exists conversations 
+   add constraint FKoshmq14v84xnuuiyiy27a617o 
+   foreign key (participant_one_id) 
+   references account;
+
+alter table if exists conversations 
+   add constraint FKjb1yqh7sx2ityq9lwcfy5ae6w 
+   foreign key (participant_two_id) 
+   references account;
+
+alter table if exists email_verification 
+   add constraint FK48coa4aq54wpqtrvvei8eyxkn 
+   foreign key (account_id) 
+   references account;
+
+alter table if exists job_views 
+   add constraint FKkqwc7e9tqsvrri4n1cy4oq3ov 
+   foreign key (job_id) 
+   references jobs;
+
+alter table if exists job_views 
+   add constraint FKhsrc6asqw34x04t2o4fhria8q 
+   foreign key (viewer_id) 
+   references account;
+
+alter table if exists jobs 
+   add constraint FK6ix1ytp71kdj9g3l6guhqk54d 
+   foreign key (category_id) 
+   references job_categories;
+
+alter table if exists jobs 
+   add constraint FKrtmqcrktb6s7xq8djbs2a2war 
+   foreign key (company_id) 
+   references companies;
+
+alter table if exists jobs 
+   add constraint FKssopv236oi1w00ua1los4x4os 
+   foreign key (employer_id) 
+   references account;
+
+alter table if exists messages 
+   add constraint FKt492th6wsovh1nush5yl5jj8e 
+   foreign key (conversation_id) 
+   references conversations;
+
+alter table if exists messages 
+   add constraint FKlrpqstdvl9m8tc7wgvtnb9n58 
+   foreign key (sender_id) 
+   references account;
+
+alter table if exists notification_preferences 
+   add constraint FKlypv5a7jsm10woak1tsnjmyl 
+   foreign key (account_id) 
+   references account;
+
+alter table if exists notifications 
+   add constraint FKfi3v13tgm7oogelglncpywov2 
+   foreign key (recipient_id) 
+   references account;
+
+alter table if exists password_reset_tokens 
+   add constraint FKbiin3f163ndexsg67rx23dw04 
+   foreign key (account_id) 
+   references account;
+
+alter table if exists payments 
+   add constraint FKkgucx1wp3p2tf66xkfpv4wm9w 
+   foreign key (payer_id) 
+   references account;
+
+alter table if exists payments 
+   add constraint FKkkh2amp7su1ekrjihyfngdbfr 
+   foreign key (service_package_id) 
+   references service_packages;
+
+alter table if exists post_likes 
+   add constraint FKa5wxsgl4doibhbed9gm7ikie2 
+   foreign key (post_id) 
+   references posts;
+
+alter table if exists post_likes 
+   add constraint FK7d9jcv3cbngydkd3j43xlelod 
+   foreign key (user_id) 
+   references account;
+
+alter table if exists posts 
+   add constraint FKooa7vyletsvtwmdrhdrvse86m 
+   foreign key (author_id) 
+   references account;
+
+alter table if exists refresh_tokens 
+   add constraint FK8a2vdihir1pbbwheen8agt357 
+   foreign key (account_id) 
+   references account;
+
+alter table if exists reports 
+   add constraint FKnh2uasc7gf3c4q85o3f90r5sp 
+   foreign key (reporter_id) 
+   references account;
+
+alter table if exists saved_jobs 
+   add constraint FKawvc9t3d3efu6ta6h30tb984t 
+   foreign key (job_id) 
+   references jobs;
+
+alter table if exists saved_jobs 
+   add constraint FKbbjglrnyhplqgfq78f0ax05oy 
+   foreign key (user_id) 
+   references account;
+
+alter table if exists system_logs 
+   add constraint FKgp0eub780dt9l0e4ow9hadv7y 
+   foreign key (user_id) 
+   references account;
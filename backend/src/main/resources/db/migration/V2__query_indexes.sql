@@ -0,0 +1,89 @@
+-- Indexes for the repository and JDBC queries on the hot paths.
+--
+-- Built CONCURRENTLY so existing tables keep taking writes; Flyway then runs this script outside
+-- a transaction. If a build fails it leaves an INVALID index behind, which must be dropped before
+-- re-running (IF NOT EXISTS would otherwise skip it).
+
+-- jobs: candidate feed and keyset pages only ever read ACTIVE jobs
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_active_posted_at
+    ON jobs (posted_at, id) WHERE status = 'ACTIVE';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_active_title
+    ON jobs (title, id) WHERE status = 'ACTIVE';
+
+-- Expiry sweep: ACTIVE jobs past expires_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_status_expires_at
+    ON jobs (status, expires_at);
+
+-- Admin listings and countByStatus for the other statuses
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_status_posted_at
+    ON jobs (status, posted_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_employer_posted_at
+    ON jobs (employer_id, posted_at);
+
+-- Counter recount and the recent-applications leaderboard join on these
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_company_id
+    ON jobs (company_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_jobs_category_id
+    ON jobs (category_id);
+
+-- applications: duplicate-apply checks, latest application per job/candidate, per-job pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_job_candidate_applied_at
+    ON applications (job_id, candidate_id, applied_at);
+
+-- "My applications", newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_candidate_applied_at
+    ON applications (candidate_id, applied_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_applied_at
+    ON applications (applied_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_cv_id
+    ON applications (cv_id);
+
+-- job_views: "has this viewer seen the job" and the latest view inside the dedupe window
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_views_job_viewer_viewed_at
+    ON job_views (job_id, viewer_id, viewed_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_views_job_viewer_ip
+    ON job_views (job_id, viewer_ip);
+
+-- Rollups scan by time, per-job stats by job and time, "my viewed jobs" by viewer
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_views_viewed_at
+    ON job_views (viewed_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_views_job_viewed_at
+    ON job_views (job_id, viewed_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_views_viewer_viewed_at
+    ON job_views (viewer_id, viewed_at);
+
+-- notifications: inbox pages, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_recipient_created_at
+    ON notifications (recipient_id, created_at DESC);
+
+-- Unread counts only ever ask for is_read = false, so a partial index replaces (recipient_id, is_read)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_recipient_unread
+    ON notifications (recipient_id) WHERE is_read = false AND deleted_at IS NULL;
+
+-- saved_jobs: the primary key leads with job_id, the "saved jobs" page filters by user
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_saved_jobs_user_saved_at
+    ON saved_jobs (user_id, saved_at);
+
+-- Broadcast recipients by role
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_account_active_role
+    ON account (role, id) WHERE status = 'ACTIVE' AND deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_companies_employer_id
+    ON companies (employer_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_candidate_cvs_candidate_created_at
+    ON candidate_cvs (candidate_id, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_audit_logs_admin_id
+    ON audit_logs (admin_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_audit_logs_target
+    ON audit_logs (target_type, target_id);
@@ -0,0 +1,45 @@
+-- Moves the write-heavy tables to sequence ids and widens the notification type checks.
+
+-- These tables took ids from identity columns before they moved to pooled-lo sequences. The
+-- identity is dropped so nothing can insert with it, and each sequence is moved past the highest
+-- existing id unless it is already ahead (another node may be using a block it allocated).
+CREATE SEQUENCE IF NOT EXISTS applications_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS job_views_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS notification_outbox_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS notifications_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    t record;
+    next_id bigint;
+    max_id bigint;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('applications', 'applications_seq'),
+            ('audit_logs', 'audit_logs_seq'),
+            ('job_views', 'job_views_seq'),
+            ('notification_outbox', 'notification_outbox_seq'),
+            ('notifications', 'notifications_seq')) AS v (table_name, sequence_name)
+    LOOP
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t.table_name);
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM %I',
+                t.sequence_name) INTO next_id;
+        EXECUTE format('SELECT max(id) FROM %I', t.table_name) INTO max_id;
+        IF max_id IS NOT NULL AND max_id >= next_id THEN
+            PERFORM setval(t.sequence_name, max_id + 1, false);
+        END IF;
+    END LOOP;
+END $$;
+
+-- ddl-auto never widened enum check constraints, so older databases reject JOB_EXPIRED.
+-- New NotificationType values need a migration that rewrites these two constraints again.
+ALTER TABLE notifications
+    DROP CONSTRAINT IF EXISTS notifications_type_check,
+    ADD CONSTRAINT notifications_type_check CHECK (type IN
+        ('NEW_APPLICATION', 'APPLICATION_SUBMITTED', 'APPLICATION_STATUS_CHANGED', 'JOB_EXPIRED', 'SYSTEM'));
+
+ALTER TABLE notification_outbox
+    DROP CONSTRAINT IF EXISTS notification_outbox_type_check,
+    ADD CONSTRAINT notification_outbox_type_check CHECK (type IN
+        ('NEW_APPLICATION', 'APPLICATION_SUBMITTED', 'APPLICATION_STATUS_CHANGED', 'JOB_EXPIRED', 'SYSTEM'));
@@ -0,0 +1,13 @@
+-- Where each rollup granularity resumes. Deriving it from the latest rollup row stalled when a
+-- run's whole range had no views, since nothing was written and the next run started over.
+create table job_view_rollup_watermarks (
+    rolled_up_to timestamp(6) not null,
+    granularity varchar(10) not null check (granularity in ('HOUR','DAY')),
+    primary key (granularity)
+);
+
+insert into job_view_rollup_watermarks (granularity, rolled_up_to)
+select granularity,
+       max(bucket_start) + case granularity when 'HOUR' then interval '1 hour' else interval '1 day' end
+from job_view_rollups
+group by granularity;
@@ -0,0 +1,74 @@
+package com.jobnest.backend.service.company.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopKHeapTest {
+
+    @Test
+    void outsiderThatBeatsTheWeakestMemberTakesItsPlace() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.set(1, 10);
+        heap.set(2, 20);
+        heap.set(3, 30);
+        heap.set(4, 5);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(heap.top(3)));
+
+        heap.add(4, 20);
+
+        assertEquals(List.of(3L, 4L, 2L), ids(heap.top(3)));
+    }
+
+    @Test
+    void memberThatDropsIsReplacedByTheBestOutsider() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.set(1, 10);
+        heap.set(2, 20);
+        heap.set(3, 30);
+        heap.set(4, 5);
+
+        heap.set(2, 1);
+
+        List<Map.Entry<Long, Long>> top = heap.top(3);
+        assertEquals(List.of(3L, 1L, 4L), ids(top));
+        assertEquals(5L, top.get(2).getValue());
+        assertEquals(1L, heap.score(2));
+    }
+
+    @Test
+    void memberWithZeroScoreIsNoLongerRanked() {
+        TopKHeap heap = new TopKHeap(2);
+        heap.set(1, 10);
+        heap.set(2, 20);
+        heap.set(3, 5);
+
+        heap.add(2, -20);
+
+        assertEquals(List.of(1L, 3L), ids(heap.top(2)));
+        assertEquals(0L, heap.score(2));
+    }
+
+    @Test
+    void tiesRankTheLowerIdFirst() {
+        TopKHeap heap = new TopKHeap(2);
+        heap.set(9, 10);
+        heap.set(5, 10);
+        heap.set(3, 10);
+
+        assertEquals(List.of(3L, 5L), ids(heap.top(2)));
+
+        heap.reset(Map.of(7L, 4L, 2L, 4L, 8L, 6L));
+
+        assertEquals(List.of(8L, 2L), ids(heap.top(2)));
+    }
+
+    private static List<Long> ids(List<Map.Entry<Long, Long>> entries) {
+        return entries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobnest.backend.service.job;
+
+import com.jobnest.backend.dto.response.JobResponse;
+import com.jobnest.backend.entities.Company;
+import com.jobnest.backend.entities.job.Job;
+import com.jobnest.backend.repository.auth.UserRepository;
+import com.jobnest.backend.repository.company.CompanyRepository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class JobResponseEnricherTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final JobResponseEnricher enricher = new JobResponseEnricher(userRepository, companyRepository);
+
+    @Test
+    void pageOfFiftyJobsCostsOneQueryPerLookupType() {
+        List<Job> jobs = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            Job job = new Job();
+            job.setId(i);
+            job.setEmployerId(i % 7);
+            job.setCompanyId(i % 5);
+            job.setTitle("Job " + i);
+            jobs.add(job);
+        }
+
+        when(userRepository.findUsernamesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new Object[] { id, "employer-" + id })
+                    .collect(Collectors.toList());
+        });
+        when(companyRepository.findAllByIdCached(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<Company> companies = new ArrayList<>();
+            ids.forEach(id -> {
+                Company company = new Company();
+                company.setId(id);
+                company.setName("Company " + id);
+                companies.add(company);
+            });
+            return companies;
+        });
+
+        List<JobResponse> responses = enricher.toResponses(jobs);
+
+        verify(userRepository, times(1)).findUsernamesByIdIn(anyCollection());
+        verify(companyRepository, times(1)).findAllByIdCached(anyCollection());
+        verifyNoMoreInteractions(userRepository, companyRepository);
+
+        assertEquals(50, responses.size());
+        assertEquals("employer-3", responses.get(2).getEmployerName());
+        assertEquals("Company 3", responses.get(2).getCompanyName());
+    }
+}
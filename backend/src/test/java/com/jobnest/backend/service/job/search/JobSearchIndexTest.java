@@ -0,0 +1,128 @@
+package com.jobnest.backend.service.job.search;
+
+import com.jobnest.backend.entities.job.Job;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobSearchIndexTest {
+
+    private final JobSearchIndex index = new JobSearchIndex(null);
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.index(job(1L, "Backend Engineer", null, "We use Java and Postgres every day"));
+        index.index(job(2L, "Java Developer", null, "Build services for our customers"));
+        index.index(job(3L, "Designer", null, "Figma and user research"));
+
+        JobSearchIndex.SearchResult result = index.search("java", 0, 10);
+
+        assertEquals(List.of(2L, 1L), result.getJobIds());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    void shorterDocumentRanksHigherForTheSameTermFrequency() {
+        index.index(job(1L, "Tester", null, "python " + "filler ".repeat(40)));
+        index.index(job(2L, "Tester", null, "python"));
+
+        assertEquals(List.of(2L, 1L), index.search("python", 0, 10).getJobIds());
+    }
+
+    @Test
+    void everyTermMustMatchAndDiacriticsAreFolded() {
+        index.index(job(1L, "Lập trình viên Java", "Spring", null));
+        index.index(job(2L, "Java Developer", null, null));
+        index.index(job(3L, "Spring Engineer", null, null));
+
+        assertEquals(List.of(1L), index.search("java spring", 0, 10).getJobIds());
+        assertEquals(List.of(1L), index.search("lap trinh", 0, 10).getJobIds());
+    }
+
+    @Test
+    void lastTermExpandsAsPrefix() {
+        index.index(job(1L, "Java Developer", null, null));
+        index.index(job(2L, "JavaScript Engineer", null, null));
+        index.index(job(3L, "Jakarta EE Consultant", null, null));
+
+        assertEquals(Set.of(1L, 2L), Set.copyOf(index.search("jav", 0, 10).getJobIds()));
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(index.matchAll("ja")));
+        // Only the last term is a prefix, and single letters are not expanded
+        assertEquals(List.of(), index.search("jav developer", 0, 10).getJobIds());
+        assertEquals(List.of(), index.search("j", 0, 10).getJobIds());
+    }
+
+    @Test
+    void exactTermRanksAboveItsExpansions() {
+        index.index(job(1L, "Developers Wanted", null, null));
+        index.index(job(2L, "Developer", null, null));
+
+        assertEquals(List.of(2L, 1L), index.search("developer", 0, 10).getJobIds());
+    }
+
+    @Test
+    void removedAndEditedJobsStopMatching() {
+        index.index(job(1L, "Python Developer", null, null));
+        index.index(job(2L, "Python Analyst", null, null));
+
+        index.remove(1L);
+        index.index(job(2L, "Golang Analyst", null, null));
+
+        assertEquals(0, index.search("python", 0, 10).getTotal());
+        assertEquals(List.of(2L), index.search("golang", 0, 10).getJobIds());
+        assertEquals(List.of(2L), index.matchAll("analyst"));
+    }
+
+    @Test
+    void searchStillWorksAfterCompaction() {
+        for (long id = 1; id <= 2500; id++) {
+            index.index(job(id, "Filler", "token" + id, null));
+        }
+        index.index(job(9001L, "Kotlin Developer", null, null));
+        int termsBefore = index.termCount();
+
+        // Removing more than half of the jobs compacts the postings
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        assertTrue(index.termCount() < termsBefore - 1000);
+        JobSearchIndex.SearchResult fillers = index.search("filler", 0, 1000);
+        assertEquals(500, fillers.getTotal());
+        assertTrue(fillers.getJobIds().stream().allMatch(id -> id > 2000 && id <= 2500));
+        assertEquals(List.of(2400L), index.search("token2400", 0, 10).getJobIds());
+        assertEquals(List.of(), index.search("token1500", 0, 10).getJobIds());
+
+        // Edits and new jobs after compaction get fresh ordinals
+        index.index(job(2400L, "Kotlin Engineer", null, null));
+        index.index(job(9002L, "Kotlin Lead", null, null));
+        assertEquals(Set.of(9001L, 9002L, 2400L), Set.copyOf(index.search("kotlin", 0, 10).getJobIds()));
+        assertEquals(499, index.search("filler", 0, 1000).getTotal());
+    }
+
+    @Test
+    void offsetAndLimitPageThroughTheRanking() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(job(id, "Nurse", null, "nurse ".repeat((int) id)));
+        }
+
+        JobSearchIndex.SearchResult page = index.search("nurse", 1, 2);
+
+        assertEquals(List.of(4L, 3L), page.getJobIds());
+        assertEquals(5, page.getTotal());
+    }
+
+    private static Job job(Long id, String title, String skills, String description) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setSkills(skills);
+        job.setDescription(description);
+        return job;
+    }
+}
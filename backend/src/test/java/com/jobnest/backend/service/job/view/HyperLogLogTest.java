@@ -0,0 +1,84 @@
+package com.jobnest.backend.service.job.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    @Test
+    void fewViewersRoundTripThroughSparseBytes() {
+        HyperLogLog sketch = sketchOf(0, 40);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertTrue(bytes.length < HyperLogLog.REGISTER_COUNT);
+        assertEquals(0, bytes.length % 3);
+        assertEquals(sketch, HyperLogLog.fromBytes(bytes));
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(bytes).estimate());
+    }
+
+    @Test
+    void manyViewersRoundTripThroughDenseBytes() {
+        HyperLogLog sketch = sketchOf(0, 20_000);
+
+        byte[] bytes = sketch.toBytes();
+
+        assertEquals(HyperLogLog.REGISTER_COUNT, bytes.length);
+        assertEquals(sketch, HyperLogLog.fromBytes(bytes));
+    }
+
+    @Test
+    void unreadableBytesGiveAnEmptySketch() {
+        assertTrue(HyperLogLog.fromBytes(null).isEmpty());
+        assertTrue(HyperLogLog.fromBytes(new byte[] { 1, 2 }).isEmpty());
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void mergeEqualsTheSketchOfTheUnion() {
+        HyperLogLog first = sketchOf(0, 3_000);
+        HyperLogLog second = sketchOf(2_000, 5_000);
+
+        HyperLogLog merged = first.copy();
+        merged.merge(second);
+
+        assertEquals(sketchOf(0, 5_000), merged);
+        assertWithin(5_000, merged.estimate(), 0.10);
+        // The copy is independent of the sketch it came from
+        assertEquals(sketchOf(0, 3_000), first);
+    }
+
+    @Test
+    void addingAKnownViewerChangesNothing() {
+        HyperLogLog sketch = sketchOf(0, 100);
+
+        assertFalse(sketch.add("u:50"));
+        assertEquals(sketchOf(0, 100), sketch);
+    }
+
+    @Test
+    void estimateStaysWithinThreeStandardErrors() {
+        // Standard error is about 3.3% with 1024 registers
+        for (int viewers : new int[] { 100, 1_000, 10_000, 100_000, 1_000_000 }) {
+            assertWithin(viewers, sketchOf(0, viewers).estimate(), 0.10);
+        }
+        // Linear counting is close to exact while most registers are empty
+        assertWithin(10, sketchOf(0, 10).estimate(), 0.0);
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(JobViewSketchStore.viewerKey((long) i, null));
+        }
+        return sketch;
+    }
+
+    private static void assertWithin(long expected, long actual, double relativeError) {
+        assertTrue(Math.abs(actual - expected) <= Math.ceil(expected * relativeError),
+                "estimate " + actual + " for " + expected);
+    }
+}